@@ -0,0 +1,51 @@
+-- login_history 월 단위 RANGE 파티셔닝 (MySQL 8)
+-- 푸름대학교 학생성장지원센터 데이터베이스
+--
+-- 실행: mysql -u root -p scms2 < database/login_history_partitioning.sql
+-- - 애플리케이션이 한 번 이상 기동되어 JPA가 login_history 테이블을 만든 뒤 실행합니다.
+-- - 파티션 테이블은 외래키를 가질 수 없고, PK에 파티션 컬럼(login_at)이 포함되어야 합니다.
+-- - 이후 월 파티션 생성과 보관 기간이 지난 파티션 보관/삭제는 LoginHistoryRetentionService가 매일 처리합니다.
+--   (scms.login.history.retention-months, scms.login.history.archive-directory)
+
+USE scms2;
+
+-- 1. user_id 외래키 제거 (JPA가 만든 이름이 환경마다 다르므로 조회 후 삭제)
+SET @fk_name := (
+    SELECT constraint_name FROM information_schema.referential_constraints
+    WHERE constraint_schema = DATABASE() AND table_name = 'login_history'
+    LIMIT 1
+);
+SET @drop_fk := IF(@fk_name IS NULL, 'SELECT 1',
+    CONCAT('ALTER TABLE login_history DROP FOREIGN KEY ', @fk_name));
+PREPARE stmt FROM @drop_fk;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2. login_at NOT NULL + PK (history_id, login_at)
+UPDATE login_history SET login_at = NOW() WHERE login_at IS NULL;
+ALTER TABLE login_history
+    MODIFY login_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (history_id, login_at);
+
+-- 3. 월 단위 파티션 (실행한 달과 다음 달 + pmax)
+--    실행한 달 이전 이력은 첫 파티션에 모두 포함되며, 보관 기간이 지나면 한 번에 보관/삭제됩니다.
+--    그 이후 달의 파티션은 LoginHistoryRetentionService가 pmax를 분리해 미리 만듭니다 (scms.login.history.future-partitions).
+SET @month0 := DATE_FORMAT(CURDATE(), '%Y-%m-01');
+SET @month1 := DATE_FORMAT(CURDATE() + INTERVAL 1 MONTH, '%Y-%m-01');
+SET @month2 := DATE_FORMAT(CURDATE() + INTERVAL 2 MONTH, '%Y-%m-01');
+SET @partitioning := CONCAT(
+    'ALTER TABLE login_history PARTITION BY RANGE COLUMNS (login_at) (',
+    'PARTITION p', DATE_FORMAT(@month0, '%Y%m'), ' VALUES LESS THAN (''', @month1, ' 00:00:00''), ',
+    'PARTITION p', DATE_FORMAT(@month1, '%Y%m'), ' VALUES LESS THAN (''', @month2, ' 00:00:00''), ',
+    'PARTITION pmax VALUES LESS THAN (MAXVALUE))'
+);
+PREPARE stmt FROM @partitioning;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 확인
+SELECT partition_name, partition_description, table_rows
+FROM information_schema.partitions
+WHERE table_schema = DATABASE() AND table_name = 'login_history'
+ORDER BY partition_ordinal_position;
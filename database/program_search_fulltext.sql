@@ -0,0 +1,28 @@
+-- 프로그램 검색용 ngram FULLTEXT 인덱스 (MySQL 8)
+-- 푸름대학교 학생성장지원센터 데이터베이스
+--
+-- 실행: mysql -u root -p scms2 < database/program_search_fulltext.sql
+-- - 애플리케이션이 한 번 이상 기동되어 JPA가 programs 테이블을 만든 뒤 실행합니다.
+-- - 인덱스 생성 중에는 programs 테이블에 메타데이터 잠금이 걸리므로 배포 전 점검 시간에 실행합니다.
+-- - 이미 인덱스가 있으면 아무것도 하지 않으므로 여러 번 실행해도 됩니다.
+-- - 애플리케이션은 기동 시 인덱스 존재 여부만 확인하며, 없으면 LIKE 검색을 사용합니다.
+--   (scms.program.search.fulltext-enabled, scms.program.search.min-token-length)
+-- - 검색어를 2글자 단위로 나누려면 MySQL 서버 설정 ngram_token_size=2 (기본값)를 유지합니다.
+
+USE scms2;
+
+SET @has_index := (
+    SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'programs' AND index_name = 'ft_programs_search'
+);
+SET @create_index := IF(@has_index > 0, 'SELECT 1',
+    'ALTER TABLE programs ADD FULLTEXT INDEX ft_programs_search (title, description, category, department) WITH PARSER ngram');
+PREPARE stmt FROM @create_index;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 확인
+SELECT index_name, column_name, index_type
+FROM information_schema.statistics
+WHERE table_schema = DATABASE() AND table_name = 'programs' AND index_name = 'ft_programs_search'
+ORDER BY seq_in_index;
@@ -28,8 +28,10 @@ CREATE TABLE IF NOT EXISTS users (
     deleted_at DATETIME COMMENT '삭제일시 (Soft Delete)',
     INDEX idx_student_num (student_num),
     INDEX idx_email (email),
-    INDEX idx_role (role),
-    INDEX idx_deleted_at (deleted_at)
+    INDEX idx_deleted_at (deleted_at),
+    INDEX idx_users_name (name),
+    INDEX idx_users_role_student_num (role, student_num),
+    INDEX idx_users_department_student_num (department, student_num)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자 정보';
 
 -- 로그인 히스토리 테이블
@@ -46,6 +48,29 @@ CREATE TABLE IF NOT EXISTS login_history (
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='로그인 이력';
 
+-- 시간대별 로그인 집계 (LoginHistoryRetentionService가 매일 생성, 원본 이력 삭제 후에도 유지)
+CREATE TABLE IF NOT EXISTS login_hourly_rollups (
+    rollup_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '집계 ID',
+    stat_date DATE NOT NULL COMMENT '집계일',
+    stat_hour INT NOT NULL COMMENT '시간대 (0-23)',
+    success_count BIGINT NOT NULL COMMENT '성공 수',
+    failure_count BIGINT NOT NULL COMMENT '실패 수',
+    user_count BIGINT NOT NULL COMMENT '로그인을 시도한 사용자 수',
+    UNIQUE KEY uk_login_hourly_rollups_date_hour (stat_date, stat_hour)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='시간대별 로그인 집계';
+
+-- IP별 일일 로그인 실패 집계
+CREATE TABLE IF NOT EXISTS login_failure_ip_rollups (
+    rollup_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '집계 ID',
+    stat_date DATE NOT NULL COMMENT '집계일',
+    ip_address VARCHAR(45) NOT NULL COMMENT 'IP 주소',
+    failure_count BIGINT NOT NULL COMMENT '실패 수',
+    user_count BIGINT NOT NULL COMMENT '실패한 사용자 수',
+    last_failed_at DATETIME(6) NOT NULL COMMENT '마지막 실패 일시',
+    UNIQUE KEY uk_login_failure_ip_rollups_date_ip (stat_date, ip_address),
+    INDEX idx_login_failure_ip_rollups_date_count (stat_date, failure_count)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='IP별 일일 로그인 실패 집계';
+
 -- 상담사 테이블
 CREATE TABLE IF NOT EXISTS counselors (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT 'ID',
@@ -122,6 +147,62 @@ CREATE TABLE IF NOT EXISTS student_competency_assessments (
     INDEX idx_assessment_date (assessment_date)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='학생 역량 평가';
 
+-- ============================================
+-- 다중 인스턴스 공유 상태 테이블
+-- ============================================
+
+-- 신청 접수 티켓 (비동기 신청 파이프라인 처리 결과, 어느 인스턴스에서든 조회)
+CREATE TABLE IF NOT EXISTS application_tickets (
+    ticket_id VARCHAR(36) PRIMARY KEY COMMENT '티켓 ID (UUID)',
+    user_id INT NOT NULL COMMENT '사용자 ID',
+    program_id INT NOT NULL COMMENT '프로그램 ID',
+    status VARCHAR(20) NOT NULL COMMENT '상태 (RECEIVED, COMPLETED, REJECTED, FAILED)',
+    application_id INT COMMENT '저장된 신청 ID',
+    message VARCHAR(255) COMMENT '처리 결과 메시지',
+    received_at DATETIME(6) NOT NULL COMMENT '접수일시',
+    processed_at DATETIME(6) COMMENT '처리일시',
+    INDEX idx_application_tickets_status_received (status, received_at),
+    INDEX idx_application_tickets_processed_at (processed_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='신청 접수 티켓';
+
+-- 신청자 목록 내보내기 작업 (파일은 scms.export.directory 공유 경로에 저장, 어느 인스턴스에서든 조회/다운로드)
+CREATE TABLE IF NOT EXISTS export_jobs (
+    job_id VARCHAR(36) PRIMARY KEY COMMENT '작업 ID (UUID)',
+    user_id INT NOT NULL COMMENT '요청한 사용자 ID',
+    target VARCHAR(255) NOT NULL COMMENT '대상 프로그램 조건 설명',
+    format VARCHAR(10) NOT NULL COMMENT '형식 (xlsx, csv, ndjson)',
+    sheet_per_program BOOLEAN NOT NULL COMMENT '프로그램별 시트 사용 여부',
+    file_name VARCHAR(255) NOT NULL COMMENT '다운로드 파일명',
+    stored_file VARCHAR(60) NOT NULL COMMENT '저장 경로 내 파일명',
+    status VARCHAR(20) NOT NULL COMMENT '상태 (QUEUED, RUNNING, COMPLETED, FAILED)',
+    row_count BIGINT COMMENT '행 수',
+    file_size BIGINT COMMENT '파일 크기 (바이트)',
+    message VARCHAR(255) COMMENT '실패 사유',
+    requested_at DATETIME(6) NOT NULL COMMENT '요청일시',
+    completed_at DATETIME(6) COMMENT '완료일시',
+    expires_at DATETIME(6) COMMENT '파일 만료일시',
+    INDEX idx_export_jobs_status_requested (status, requested_at),
+    INDEX idx_export_jobs_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='신청자 목록 내보내기 작업';
+
+-- 사용자 일괄 등록 작업 (등록은 파일을 받은 인스턴스에서 실행, 상태와 결과는 어느 인스턴스에서든 조회)
+CREATE TABLE IF NOT EXISTS user_import_jobs (
+    job_id VARCHAR(36) PRIMARY KEY COMMENT '작업 ID (UUID)',
+    user_id INT COMMENT '요청한 사용자 ID',
+    file_name VARCHAR(255) NOT NULL COMMENT '업로드 파일명',
+    status VARCHAR(20) NOT NULL COMMENT '상태 (QUEUED, RUNNING, COMPLETED, FAILED)',
+    message VARCHAR(255) COMMENT '실패 사유',
+    total_rows INT COMMENT '전체 행 수',
+    created_count INT COMMENT '등록 수',
+    failed_count INT COMMENT '실패 행 수',
+    elapsed_ms BIGINT COMMENT '소요 시간 (ms)',
+    errors MEDIUMTEXT COMMENT '행별 오류 (JSON 배열)',
+    requested_at DATETIME(6) NOT NULL COMMENT '요청일시',
+    completed_at DATETIME(6) COMMENT '완료일시',
+    INDEX idx_user_import_jobs_status_requested (status, requested_at),
+    INDEX idx_user_import_jobs_completed_at (completed_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자 일괄 등록 작업';
+
 -- ============================================
 -- 초기 샘플 데이터
 -- ============================================
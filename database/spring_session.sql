@@ -0,0 +1,30 @@
+-- ============================================
+-- Spring Session JDBC 세션 테이블 (MySQL)
+-- ============================================
+-- 로그인 세션을 인스턴스 메모리 대신 DB에 저장 (여러 인스턴스 운영, 재배포 시 로그인 유지)
+-- 기존 DB 적용: mysql -uroot -p scms2 < database/spring_session.sql
+-- 속성 값(ATTRIBUTE_BYTES)은 SessionAttributeCodec 바이너리 형식으로 저장됨
+-- 만료 세션은 spring.session.jdbc.cleanup-cron 주기로 EXPIRY_TIME 인덱스를 이용해 삭제됨
+
+CREATE TABLE IF NOT EXISTS SPRING_SESSION (
+    PRIMARY_ID CHAR(36) NOT NULL,
+    SESSION_ID CHAR(36) NOT NULL,
+    CREATION_TIME BIGINT NOT NULL,
+    LAST_ACCESS_TIME BIGINT NOT NULL,
+    MAX_INACTIVE_INTERVAL INT NOT NULL,
+    EXPIRY_TIME BIGINT NOT NULL,
+    PRINCIPAL_NAME VARCHAR(100),
+    CONSTRAINT SPRING_SESSION_PK PRIMARY KEY (PRIMARY_ID),
+    UNIQUE INDEX SPRING_SESSION_IX1 (SESSION_ID),
+    INDEX SPRING_SESSION_IX2 (EXPIRY_TIME),
+    INDEX SPRING_SESSION_IX3 (PRINCIPAL_NAME)
+) ENGINE=InnoDB ROW_FORMAT=DYNAMIC COMMENT='로그인 세션';
+
+CREATE TABLE IF NOT EXISTS SPRING_SESSION_ATTRIBUTES (
+    SESSION_PRIMARY_ID CHAR(36) NOT NULL,
+    ATTRIBUTE_NAME VARCHAR(200) NOT NULL,
+    ATTRIBUTE_BYTES BLOB NOT NULL,
+    CONSTRAINT SPRING_SESSION_ATTRIBUTES_PK PRIMARY KEY (SESSION_PRIMARY_ID, ATTRIBUTE_NAME),
+    CONSTRAINT SPRING_SESSION_ATTRIBUTES_FK FOREIGN KEY (SESSION_PRIMARY_ID)
+        REFERENCES SPRING_SESSION (PRIMARY_ID) ON DELETE CASCADE
+) ENGINE=InnoDB ROW_FORMAT=DYNAMIC COMMENT='로그인 세션 속성';
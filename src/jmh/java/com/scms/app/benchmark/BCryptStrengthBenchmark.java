@@ -0,0 +1,45 @@
+package com.scms.app.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost별 비밀번호 확인 시간 측정
+ *
+ * 운영 서버와 같은 사양에서 ./gradlew jmh 로 실행하고, 로그인 1건의 확인 시간이
+ * 허용 범위 안에 드는 가장 큰 cost를 scms.security.bcrypt.strength 로 지정한다.
+ * (초당 처리 가능한 로그인 수 ≈ 확인 스레드 수 / 1건 확인 시간)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BCryptStrengthBenchmark {
+
+    private static final String PASSWORD = "030101";
+
+    @Param({"8", "10", "12", "14"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encodedPassword = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, encodedPassword);
+    }
+}
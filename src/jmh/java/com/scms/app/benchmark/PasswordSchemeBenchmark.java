@@ -0,0 +1,59 @@
+package com.scms.app.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해시 방식별 코어당 로그인 처리량 측정
+ *
+ * 단일 스레드 처리량(ops/s)이 곧 코어 하나가 초당 처리할 수 있는 로그인 수이며,
+ * 최대 로그인 처리량 ≈ 코어당 처리량 × scms.security.password-verifier.threads 로 추정한다.
+ * 결과를 보고 scms.security.password.encoding-id / scms.security.bcrypt.strength 를 정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class PasswordSchemeBenchmark {
+
+    private static final String PASSWORD = "030101";
+
+    @Param({"bcrypt-10", "bcrypt-12", "pbkdf2", "argon2"})
+    private String scheme;
+
+    private PasswordEncoder encoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        encoder = switch (scheme) {
+            case "bcrypt-10" -> new BCryptPasswordEncoder(10);
+            case "bcrypt-12" -> new BCryptPasswordEncoder(12);
+            case "pbkdf2" -> Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+            case "argon2" -> Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+            default -> throw new IllegalArgumentException("알 수 없는 방식: " + scheme);
+        };
+        encodedPassword = encoder.encode(PASSWORD);
+    }
+
+    /**
+     * 로그인 1건 (비밀번호 확인)
+     */
+    @Benchmark
+    public boolean login() {
+        return encoder.matches(PASSWORD, encodedPassword);
+    }
+}
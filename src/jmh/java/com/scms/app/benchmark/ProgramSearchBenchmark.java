@@ -0,0 +1,138 @@
+package com.scms.app.benchmark;
+
+import com.scms.app.service.ProgramSearchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로그램 검색 1페이지 조회 시간 측정 (LIKE vs ngram FULLTEXT)
+ *
+ * MySQL 8 스크래치 DB가 필요하므로 ./gradlew jmh 에서는 제외되어 있고, JMH jar로 따로 실행한다.
+ * <pre>
+ * ./gradlew jmhJar
+ * SCMS_SEARCH_BENCHMARK_URL="jdbc:mysql://localhost:3306/scms2_bench?rewriteBatchedStatements=true" \
+ * SCMS_SEARCH_BENCHMARK_USER=root SCMS_SEARCH_BENCHMARK_PASSWORD=password \
+ * java -jar build/libs/*-jmh.jar ProgramSearchBenchmark -p rows=10000,100000
+ * </pre>
+ * 같은 행 수의 측정 테이블(programs_search_bench)이 이미 있으면 다시 적재하지 않는다. 측정 후 테이블은 직접 삭제한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProgramSearchBenchmark {
+
+    private static final String TABLE = "programs_search_bench";
+    private static final int INSERT_BATCH = 5_000;
+    private static final int PAGE_SIZE = 12;
+
+    private static final String[] TOPICS = {"진로", "리더십", "데이터", "분석", "취업", "특강", "글쓰기", "면접",
+            "창업", "봉사", "외국어", "코딩", "디자인", "상담", "멘토링", "토론", "발표", "독서", "인턴십", "자격증"};
+    private static final String[] CATEGORIES = {"학습역량", "진로탐색", "취업준비", "글로벌", "봉사활동", "창업"};
+    private static final String[] DEPARTMENTS = {"학생성장지원센터", "취업지원팀", "교수학습개발센터",
+            "국제교류팀", "창업지원단", "상담센터"};
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"진로", "리더십", "데이터 분석", "취업 특강", "글쓰기"})
+    private String keyword;
+
+    private JdbcTemplate jdbcTemplate;
+    private String likePattern;
+
+    @Setup
+    public void setUp() {
+        String url = System.getenv("SCMS_SEARCH_BENCHMARK_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("SCMS_SEARCH_BENCHMARK_URL 환경 변수에 MySQL 스크래치 DB를 지정해야 합니다.");
+        }
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url,
+                System.getenv().getOrDefault("SCMS_SEARCH_BENCHMARK_USER", "root"),
+                System.getenv().getOrDefault("SCMS_SEARCH_BENCHMARK_PASSWORD", "")));
+        likePattern = "%" + keyword + "%";
+
+        if (loadedRows() != rows) {
+            load();
+        }
+    }
+
+    @Benchmark
+    public List<Integer> like() {
+        return jdbcTemplate.queryForList(
+                "SELECT program_id FROM " + TABLE + " WHERE deleted_at IS NULL AND (" +
+                "title LIKE ? OR description LIKE ? OR category LIKE ? OR department LIKE ?) " +
+                "ORDER BY created_at DESC LIMIT " + PAGE_SIZE, Integer.class,
+                likePattern, likePattern, likePattern, likePattern);
+    }
+
+    @Benchmark
+    public List<Integer> fullText() {
+        return jdbcTemplate.queryForList(
+                "SELECT program_id FROM " + TABLE + " WHERE deleted_at IS NULL AND " +
+                ProgramSearchService.MATCH_CLAUSE + " ORDER BY " + ProgramSearchService.MATCH_CLAUSE +
+                " DESC, created_at DESC LIMIT " + PAGE_SIZE, Integer.class, keyword, keyword);
+    }
+
+    private long loadedRows() {
+        Integer tables = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+                Integer.class, TABLE);
+        if (tables == null || tables == 0) {
+            return -1;
+        }
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLE, Long.class);
+        return count != null ? count : -1;
+    }
+
+    private void load() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (" +
+                "program_id INT AUTO_INCREMENT PRIMARY KEY, " +
+                "title VARCHAR(200) NOT NULL, description TEXT, " +
+                "category VARCHAR(50) NOT NULL, department VARCHAR(100), " +
+                "created_at DATETIME NOT NULL, deleted_at DATETIME NULL" +
+                ") DEFAULT CHARSET = utf8mb4");
+
+        Random random = new Random(rows);
+        LocalDateTime base = LocalDateTime.now();
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[]{
+                    pick(random, TOPICS) + " " + pick(random, TOPICS) + " 프로그램 " + i,
+                    pick(random, TOPICS) + " 역량을 높이기 위한 " + pick(random, TOPICS) + " 과정입니다. "
+                            + pick(random, TOPICS) + "와 " + pick(random, TOPICS) + "을 함께 다룹니다.",
+                    pick(random, CATEGORIES),
+                    pick(random, DEPARTMENTS),
+                    Timestamp.valueOf(base.minusMinutes(i))});
+            if (batch.size() == INSERT_BATCH || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO " + TABLE +
+                        " (title, description, category, department, created_at) VALUES (?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+
+        // 적재 후 인덱스를 만들어야 행 단위 인덱스 갱신 비용이 들지 않음
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD FULLTEXT INDEX " + ProgramSearchService.FULLTEXT_INDEX_NAME +
+                " (title, description, category, department) WITH PARSER ngram");
+        jdbcTemplate.execute("ANALYZE TABLE " + TABLE);
+    }
+
+    private String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,56 @@
+package com.scms.app.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 캐시 설정
+ *
+ * 프로그램 목록(메인/목록/관리자 화면)은 하루 몇 번만 바뀌므로 Caffeine 메모리 캐시로 읽는다.
+ * 무효화(evict/clear)는 트랜잭션 커밋 이후에 적용되어 롤백된 변경이 캐시를 비우지 않으며,
+ * 적중/실패 통계는 /actuator/metrics/cache.gets 로 확인할 수 있다.
+ *
+ * 로그인 사용자 스냅샷(SessionUser)은 요청마다 users 행을 다시 읽지 않도록 별도 크기/TTL로 캐시하고,
+ * 사용자 수정/삭제/잠금 해제 시 무효화한다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * 프로그램 목록 캐시 (필터/검색어/페이지 단위)
+     */
+    public static final String PROGRAM_CATALOG = "programCatalog";
+
+    /**
+     * 로그인 사용자 스냅샷 캐시 (userId 단위)
+     */
+    public static final String USER_SNAPSHOT = "userSnapshot";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${scms.cache.program-catalog.maximum-size:500}") long maximumSize,
+            @Value("${scms.cache.program-catalog.ttl-seconds:60}") long ttlSeconds,
+            @Value("${scms.cache.user-snapshot.maximum-size:10000}") long userSnapshotMaximumSize,
+            @Value("${scms.cache.user-snapshot.ttl-seconds:600}") long userSnapshotTtlSeconds) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(PROGRAM_CATALOG);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats());
+        cacheManager.registerCustomCache(USER_SNAPSHOT, Caffeine.newBuilder()
+                .maximumSize(userSnapshotMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(userSnapshotTtlSeconds))
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -1,15 +1,22 @@
 package com.scms.app.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Spring Security 설정
  */
@@ -63,6 +70,7 @@ public class SecurityConfig {
 
                         // 관리자 전용 경로
                         .requestMatchers("/api/users/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // 나머지는 인증된 사용자만 접근 가능
                         .anyRequest().authenticated()
@@ -94,7 +102,7 @@ public class SecurityConfig {
                         .logoutUrl("/logout")
                         .logoutSuccessUrl("/")
                         .invalidateHttpSession(true)
-                        .deleteCookies("JSESSIONID")
+                        .deleteCookies("SESSION")
                         .clearAuthentication(true)
                         .permitAll()
                 );
@@ -104,9 +112,25 @@ public class SecurityConfig {
 
     /**
      * Password Encoder Bean
+     * - 저장 형식: {id}해시 (bcrypt, pbkdf2, argon2). 접두사가 없는 기존 해시는 BCrypt로 검증
+     * - 신규 해시는 scms.security.password.encoding-id 방식으로 생성하며, 다른 방식이거나 cost가 낮은 해시는
+     *   로그인 성공 시 대기 중인 확인 요청이 없을 때 다시 해시됨 (PasswordVerifier.verifyAndUpgrade)
+     * - 접두사 없는 기존 BCrypt 해시는 cost가 충분하면 다시 해시하지 않고 {bcrypt} 접두사만 붙임
+     * - cost/방식은 PasswordSchemeBenchmark(./gradlew jmh) 결과를 보고 정함
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${scms.security.password.encoding-id:bcrypt}") String encodingId,
+            @Value("${scms.security.bcrypt.strength:10}") int strength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encodingId, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
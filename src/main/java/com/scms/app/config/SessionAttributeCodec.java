@@ -0,0 +1,170 @@
+package com.scms.app.config;
+
+import org.springframework.core.ConfigurableObjectInputStream;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.util.ClassUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세션 속성 바이너리 코덱
+ *
+ * 세션 속성은 대부분 숫자/문자열/enum과 로그인 SecurityContext이므로 타입 태그 1바이트 + 값으로 저장한다.
+ * Java 직렬화보다 작고(클래스 기술자 없음) 클래스 구조가 바뀌어도 재배포 후 기존 세션을 읽을 수 있다.
+ * 그 외 타입(Spring Security가 저장하는 요청 정보 등)만 Java 직렬화로 저장한다.
+ */
+public final class SessionAttributeCodec {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte ENUM = 5;
+    private static final byte SECURITY_CONTEXT = 6;
+    private static final byte JAVA_SERIALIZED = 127;
+
+    private SessionAttributeCodec() {
+    }
+
+    public static byte[] encode(Object value) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+            DataOutputStream out = new DataOutputStream(bytes);
+            write(out, value);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("세션 속성 저장 실패: " + value.getClass().getName(), e);
+        }
+    }
+
+    public static Object decode(byte[] data) {
+        try {
+            return read(new DataInputStream(new ByteArrayInputStream(data)));
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("세션 속성 읽기 실패", e);
+        }
+    }
+
+    private static void write(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(STRING);
+            writeString(out, string);
+        } else if (value instanceof Integer number) {
+            out.writeByte(INTEGER);
+            out.writeInt(number);
+        } else if (value instanceof Long number) {
+            out.writeByte(LONG);
+            out.writeLong(number);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(bool);
+        } else if (value instanceof Enum<?> constant) {
+            out.writeByte(ENUM);
+            writeString(out, constant.getDeclaringClass().getName());
+            writeString(out, constant.name());
+        } else if (isLoginContext(value)) {
+            Authentication authentication = ((SecurityContext) value).getAuthentication();
+            out.writeByte(SECURITY_CONTEXT);
+            write(out, authentication.getPrincipal());
+            out.writeShort(authentication.getAuthorities().size());
+            for (GrantedAuthority authority : authentication.getAuthorities()) {
+                writeString(out, authority.getAuthority());
+            }
+        } else {
+            out.writeByte(JAVA_SERIALIZED);
+            ObjectOutputStream objectOut = new ObjectOutputStream(out);
+            objectOut.writeObject(value);
+            objectOut.flush();
+        }
+    }
+
+    private static Object read(DataInputStream in) throws IOException, ClassNotFoundException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case BOOLEAN:
+                return in.readBoolean();
+            case ENUM:
+                return readEnum(readString(in), readString(in));
+            case SECURITY_CONTEXT:
+                Object principal = read(in);
+                int authorityCount = in.readShort();
+                List<GrantedAuthority> authorities = new ArrayList<>(authorityCount);
+                for (int i = 0; i < authorityCount; i++) {
+                    authorities.add(new SimpleGrantedAuthority(readString(in)));
+                }
+                return new SecurityContextImpl(new UsernamePasswordAuthenticationToken(principal, null, authorities));
+            case JAVA_SERIALIZED:
+                try (ObjectInputStream objectIn = new ConfigurableObjectInputStream(in, ClassUtils.getDefaultClassLoader())) {
+                    return objectIn.readObject();
+                }
+            default:
+                throw new IOException("알 수 없는 세션 속성 타입: " + tag);
+        }
+    }
+
+    /**
+     * AuthController.login이 저장하는 형태(아이디/권한만 있는 인증 토큰)만 압축 저장
+     */
+    private static boolean isLoginContext(Object value) {
+        if (!(value instanceof SecurityContextImpl context)) {
+            return false;
+        }
+        Authentication authentication = context.getAuthentication();
+        return authentication != null
+                && authentication.getClass() == UsernamePasswordAuthenticationToken.class
+                && authentication.isAuthenticated()
+                && authentication.getCredentials() == null
+                && authentication.getDetails() == null
+                && isCompactPrincipal(authentication.getPrincipal())
+                && authentication.getAuthorities().stream().allMatch(a -> a.getClass() == SimpleGrantedAuthority.class);
+    }
+
+    private static boolean isCompactPrincipal(Object principal) {
+        return principal instanceof String || principal instanceof Integer || principal instanceof Long;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readEnum(String className, String name) throws ClassNotFoundException {
+        Class enumClass = ClassUtils.forName(className, ClassUtils.getDefaultClassLoader());
+        return Enum.valueOf(enumClass, name);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,39 @@
+package com.scms.app.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+
+/**
+ * 세션 저장소 설정
+ *
+ * Spring Session(JDBC)이 HttpSession을 대체하여 세션을 MySQL의 SPRING_SESSION 테이블에 저장하므로,
+ * 재배포해도 로그인이 유지되고 로그인 상태는 어느 인스턴스에서든 같다. 세션 쿠키 이름은 SESSION이다.
+ *
+ * 세션 외에 인스턴스 간에 공유되는 상태와 그렇지 않은 상태:
+ * - 신청 접수 티켓(application_tickets), 내보내기 작업(export_jobs), 계정 잠금(users.locked)은 DB에 저장
+ * - 내보내기 파일은 scms.export.directory에 저장되므로, sticky routing 없이 운영하려면 공유 저장소 경로로 지정해야 함
+ * - 신청 파이프라인의 대기열, 접수 중 중복 확인(pendingKeys), 고수요 좌석 카운터, 학번/IP별 로그인 실패 집계는 인스턴스 메모리에 있음.
+ *   정원과 중복 신청은 저장 시 프로그램 행 잠금 아래에서 다시 확인하므로 인스턴스가 여러 대여도 초과 저장되지 않지만,
+ *   좌석 마감 즉시 거절과 IP 제한은 인스턴스별로 동작함
+ *
+ * 만료 세션은 spring.session.jdbc.cleanup-cron 주기로 EXPIRY_TIME 인덱스를 이용해 일괄 삭제된다.
+ * 저장소 구현은 SessionRepository 빈으로 교체할 수 있다 (테이블: database/spring_session.sql).
+ */
+@Configuration
+public class SessionConfig {
+
+    /**
+     * 세션 속성 직렬화 (Java 직렬화 대신 SessionAttributeCodec 사용)
+     */
+    @Bean
+    @Qualifier("springSessionConversionService")
+    public ConversionService springSessionConversionService() {
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, SessionAttributeCodec::encode);
+        conversionService.addConverter(byte[].class, Object.class, SessionAttributeCodec::decode);
+        return conversionService;
+    }
+}
@@ -0,0 +1,59 @@
+package com.scms.app.config;
+
+import com.scms.app.dto.SessionUser;
+import com.scms.app.service.UserSnapshotService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 컨트롤러의 SessionUser 파라미터 주입
+ * - 세션에서는 userId만 읽고, 나머지 정보는 사용자 스냅샷 캐시에서 가져옴
+ * - 요청 속성에 보관하여 한 요청 안에서는 한 번만 만듦 (비로그인 또는 삭제된 사용자는 null)
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String REQUEST_ATTRIBUTE = SessionUser.class.getName();
+    private static final SessionUser ANONYMOUS = SessionUser.builder().build();
+
+    private final UserSnapshotService userSnapshotService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return SessionUser.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (request == null) {
+            return null;
+        }
+
+        SessionUser resolved = (SessionUser) request.getAttribute(REQUEST_ATTRIBUTE);
+        if (resolved == null) {
+            resolved = load(request);
+            request.setAttribute(REQUEST_ATTRIBUTE, resolved);
+        }
+        return resolved == ANONYMOUS ? null : resolved;
+    }
+
+    private SessionUser load(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        Integer userId = session != null ? (Integer) session.getAttribute("userId") : null;
+        if (userId == null) {
+            return ANONYMOUS;
+        }
+        SessionUser snapshot = userSnapshotService.getSnapshot(userId);
+        return snapshot != null ? snapshot : ANONYMOUS;
+    }
+}
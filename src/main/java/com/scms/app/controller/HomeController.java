@@ -1,11 +1,15 @@
 package com.scms.app.controller;
 
+import com.scms.app.dto.ProgramCardResponse;
+import com.scms.app.dto.ProgramCursor;
+import com.scms.app.dto.SessionUser;
 import com.scms.app.model.Program;
-import com.scms.app.model.UserRole;
+import com.scms.app.service.ProgramFacetService;
 import com.scms.app.service.ProgramService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,6 +26,7 @@ import java.util.List;
 public class HomeController {
 
     private final ProgramService programService;
+    private final ProgramFacetService programFacetService;
 
     /**
      * 홈 페이지
@@ -32,21 +37,15 @@ public class HomeController {
             @RequestParam(required = false) String college,
             @RequestParam(required = false) String category,
             Model model,
-            HttpSession session) {
-        // 세션에서 사용자 정보 가져오기
-        Integer userId = (Integer) session.getAttribute("userId");
-        if (userId != null) {
-            model.addAttribute("userName", session.getAttribute("name"));
-            UserRole role = (UserRole) session.getAttribute("role");
-            model.addAttribute("userRole", role);
-            // 기존 세션에 isAdmin이 없으면 추가
-            if (session.getAttribute("isAdmin") == null && role != null) {
-                session.setAttribute("isAdmin", role == UserRole.ADMIN);
-            }
+            SessionUser loginUser) {
+        // 로그인 사용자 정보
+        if (loginUser != null) {
+            model.addAttribute("userName", loginUser.getName());
+            model.addAttribute("userRole", loginUser.getRole());
         }
 
         // 필터 파라미터가 있으면 필터링, 없으면 전체 조회
-        List<Program> programs;
+        List<ProgramCardResponse> programs;
         if (department != null || college != null || category != null) {
             programs = programService.getProgramsByFilters(department, college, category);
         } else {
@@ -54,6 +53,9 @@ public class HomeController {
         }
         model.addAttribute("programs", programs);
 
+        // 필터 항목별 프로그램 수
+        model.addAttribute("facets", programFacetService.getFacets());
+
         // 현재 선택된 필터 정보를 Model에 추가
         model.addAttribute("selectedDepartment", department);
         model.addAttribute("selectedCollege", college);
@@ -70,21 +72,13 @@ public class HomeController {
     public String programDetail(
             @org.springframework.web.bind.annotation.PathVariable Integer programId,
             Model model,
-            HttpSession session) {
-        // 세션에서 사용자 정보 가져오기
-        Integer userId = (Integer) session.getAttribute("userId");
-        if (userId != null) {
-            model.addAttribute("userName", session.getAttribute("name"));
-            UserRole role = (UserRole) session.getAttribute("role");
-            model.addAttribute("userRole", role);
-
-            // isAdmin 세션 및 Model 설정
-            boolean isAdmin = role == UserRole.ADMIN;
-            session.setAttribute("isAdmin", isAdmin);
-            model.addAttribute("isAdmin", isAdmin);
-        } else {
-            model.addAttribute("isAdmin", false);
+            SessionUser loginUser) {
+        // 로그인 사용자 정보
+        if (loginUser != null) {
+            model.addAttribute("userName", loginUser.getName());
+            model.addAttribute("userRole", loginUser.getRole());
         }
+        model.addAttribute("isAdmin", loginUser != null && loginUser.isAdmin());
 
         // 프로그램 조회 (조회수 증가)
         try {
@@ -108,37 +102,51 @@ public class HomeController {
             @RequestParam(required = false) String college,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
             Model model,
-            HttpSession session) {
-        // 세션에서 사용자 정보 가져오기
-        Integer userId = (Integer) session.getAttribute("userId");
-        if (userId != null) {
-            model.addAttribute("userName", session.getAttribute("name"));
-            UserRole role = (UserRole) session.getAttribute("role");
-            model.addAttribute("userRole", role);
-            if (session.getAttribute("isAdmin") == null && role != null) {
-                session.setAttribute("isAdmin", role == UserRole.ADMIN);
-            }
+            SessionUser loginUser) {
+        // 로그인 사용자 정보
+        if (loginUser != null) {
+            model.addAttribute("userName", loginUser.getName());
+            model.addAttribute("userRole", loginUser.getRole());
         }
 
-        // 필터링 또는 검색 with 페이지네이션
-        Page<Program> programPage;
         if (search != null && !search.trim().isEmpty()) {
-            programPage = programService.searchProgramsByTitleWithPagination(search, page, size);
-        } else if (department != null || college != null || category != null) {
-            programPage = programService.getProgramsByFiltersWithPagination(department, college, category, page, size);
+            // 검색: 관련도순 OFFSET 페이지네이션
+            Page<ProgramCardResponse> programPage = programService.searchProgramsWithPagination(search, page, size);
+            model.addAttribute("programs", programPage.getContent());
+            model.addAttribute("totalPages", programPage.getTotalPages());
+            model.addAttribute("totalItems", programPage.getTotalElements());
+            model.addAttribute("hasNext", programPage.hasNext());
         } else {
-            programPage = programService.getAllProgramsWithPagination(page, size);
+            // 목록: 커서가 있으면 keyset, 없으면 OFFSET (전체 수는 캐시된 COUNT 사용)
+            Slice<ProgramCardResponse> programSlice;
+            try {
+                programSlice = (cursor != null && !cursor.isEmpty())
+                        ? programService.getProgramsByFiltersAfterCursor(department, college, category, cursor, page, size)
+                        : programService.getProgramsByFiltersWithPagination(department, college, category, page, size);
+            } catch (IllegalArgumentException e) {
+                return "redirect:/programs";
+            }
+            long totalItems = programService.countPrograms(department, college, category);
+
+            model.addAttribute("programs", programSlice.getContent());
+            model.addAttribute("totalPages", (int) ((totalItems + size - 1) / size));
+            model.addAttribute("totalItems", totalItems);
+            model.addAttribute("hasNext", programSlice.hasNext());
+            if (programSlice.hasNext()) {
+                List<ProgramCardResponse> content = programSlice.getContent();
+                model.addAttribute("nextCursor", ProgramCursor.of(content.get(content.size() - 1)).encode());
+            }
         }
-
-        model.addAttribute("programs", programPage.getContent());
         model.addAttribute("currentPage", page);
-        model.addAttribute("totalPages", programPage.getTotalPages());
-        model.addAttribute("totalItems", programPage.getTotalElements());
         model.addAttribute("pageSize", size);
 
+        // 필터 항목별 프로그램 수
+        model.addAttribute("facets", programFacetService.getFacets());
+
         // 현재 선택된 필터 정보를 Model에 추가
         model.addAttribute("selectedDepartment", department);
         model.addAttribute("selectedCollege", college);
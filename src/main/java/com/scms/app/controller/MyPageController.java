@@ -1,9 +1,9 @@
 package com.scms.app.controller;
 
+import com.scms.app.dto.SessionUser;
 import com.scms.app.model.ApplicationStatus;
 import com.scms.app.model.ProgramApplication;
 import com.scms.app.service.ProgramApplicationService;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -32,17 +32,17 @@ public class MyPageController {
     @GetMapping
     public String myPage(
             @RequestParam(required = false) String status,
-            HttpSession session,
+            SessionUser loginUser,
             Model model) {
 
         // 로그인 확인
-        Integer userId = (Integer) session.getAttribute("userId");
-        if (userId == null) {
+        if (loginUser == null) {
             log.warn("마이페이지 접근 실패: 로그인 필요");
             return "redirect:/login";
         }
 
-        String userName = (String) session.getAttribute("userName");
+        Integer userId = loginUser.getUserId();
+        String userName = loginUser.getName();
 
         try {
             // 사용자의 모든 신청 내역 조회
@@ -1,7 +1,7 @@
 package com.scms.app.controller;
 
+import com.scms.app.dto.ProgramCardResponse;
 import com.scms.app.dto.ProgramRequest;
-import com.scms.app.dto.ProgramResponse;
 import com.scms.app.model.Program;
 import com.scms.app.model.ProgramStatus;
 import com.scms.app.model.UserRole;
@@ -18,7 +18,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 관리자용 프로그램 관리 컨트롤러
@@ -59,13 +58,10 @@ public class ProgramAdminController {
         }
 
         log.info("=== 관리자 권한 확인 완료");
-        List<Program> programs = programService.getAllPrograms();
-        List<ProgramResponse> programResponses = programs.stream()
-                .map(ProgramResponse::from)
-                .collect(Collectors.toList());
+        List<ProgramCardResponse> programs = programService.getAllPrograms();
 
-        log.info("=== 프로그램 개수: {}", programResponses.size());
-        model.addAttribute("programs", programResponses);
+        log.info("=== 프로그램 개수: {}", programs.size());
+        model.addAttribute("programs", programs);
         model.addAttribute("pageTitle", "프로그램 관리");
         model.addAttribute("currentUri", request.getRequestURI());
 
@@ -133,6 +129,7 @@ public class ProgramAdminController {
                 .thumbnailUrl(request.getThumbnailUrl())
                 .hits(0)
                 .status(request.getStatus())
+                .highDemand(request.getHighDemand())
                 .build();
 
         Program createdProgram = programService.createProgram(program);
@@ -176,6 +173,7 @@ public class ProgramAdminController {
             request.setMaxParticipants(program.getMaxParticipants());
             request.setThumbnailUrl(program.getThumbnailUrl());
             request.setStatus(program.getStatus());
+            request.setHighDemand(Boolean.TRUE.equals(program.getHighDemand()));
 
             model.addAttribute("programRequest", request);
             model.addAttribute("programId", id);
@@ -233,6 +231,7 @@ public class ProgramAdminController {
                     .maxParticipants(request.getMaxParticipants())
                     .thumbnailUrl(request.getThumbnailUrl())
                     .status(request.getStatus())
+                    .highDemand(request.getHighDemand())
                     .build();
 
             programService.updateProgram(id, programData);
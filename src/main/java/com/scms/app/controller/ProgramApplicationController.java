@@ -1,24 +1,33 @@
 package com.scms.app.controller;
 
+import com.scms.app.dto.ApplicationBulkRequest;
+import com.scms.app.dto.ApplicationExportFilter;
+import com.scms.app.dto.ApplicationTicket;
+import com.scms.app.dto.ExportJob;
 import com.scms.app.dto.ProgramApplicationResponse;
+import com.scms.app.dto.SessionUser;
 import com.scms.app.model.Program;
 import com.scms.app.model.ProgramApplication;
+import com.scms.app.service.ApplicationExportService;
+import com.scms.app.service.ApplicationPipeline;
 import com.scms.app.service.ExcelService;
+import com.scms.app.service.ExportJobService;
 import com.scms.app.service.ProgramApplicationService;
 import com.scms.app.service.ProgramService;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayInputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
@@ -37,7 +46,10 @@ public class ProgramApplicationController {
 
     private final ProgramApplicationService applicationService;
     private final ExcelService excelService;
+    private final ApplicationExportService exportService;
+    private final ExportJobService exportJobService;
     private final ProgramService programService;
+    private final ApplicationPipeline applicationPipeline;
 
     /**
      * 프로그램 신청
@@ -45,16 +57,28 @@ public class ProgramApplicationController {
     @PostMapping("/{programId}/apply")
     public ResponseEntity<?> applyProgram(
             @PathVariable Integer programId,
-            HttpSession session) {
+            SessionUser loginUser) {
 
         // 로그인 확인
-        Integer userId = (Integer) session.getAttribute("userId");
-        if (userId == null) {
+        if (loginUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "로그인이 필요합니다."));
         }
+        Integer userId = loginUser.getUserId();
 
         try {
+            // 비동기 파이프라인: 접수 티켓만 발급하고 저장은 일괄 처리됨
+            if (applicationPipeline.handles(programId)) {
+                ApplicationTicket ticket = applicationPipeline.submit(userId, programId);
+                log.info("프로그램 신청 접수: 사용자 ID {}, 프로그램 ID {}, 티켓 {}",
+                        userId, programId, ticket.getTicketId());
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                        "success", true,
+                        "message", "프로그램 신청이 접수되었습니다.",
+                        "ticket", ticket
+                ));
+            }
+
             ProgramApplication application = applicationService.applyProgram(userId, programId);
             ProgramApplicationResponse response = ProgramApplicationResponse.from(application);
 
@@ -83,20 +107,44 @@ public class ProgramApplicationController {
         }
     }
 
+    /**
+     * 신청 접수 티켓 조회 (비동기 신청 처리 결과 확인)
+     */
+    @GetMapping("/applications/tickets/{ticketId}")
+    public ResponseEntity<?> getApplicationTicket(
+            @PathVariable String ticketId,
+            SessionUser loginUser) {
+
+        // 로그인 확인
+        if (loginUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "로그인이 필요합니다."));
+        }
+        Integer userId = loginUser.getUserId();
+
+        try {
+            return ResponseEntity.ok(applicationPipeline.getTicket(ticketId, userId));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * 프로그램 신청 취소
      */
     @DeleteMapping("/applications/{applicationId}")
     public ResponseEntity<?> cancelApplication(
             @PathVariable Integer applicationId,
-            HttpSession session) {
+            SessionUser loginUser) {
 
         // 로그인 확인
-        Integer userId = (Integer) session.getAttribute("userId");
-        if (userId == null) {
+        if (loginUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "로그인이 필요합니다."));
         }
+        Integer userId = loginUser.getUserId();
 
         try {
             applicationService.cancelApplication(userId, applicationId);
@@ -129,14 +177,14 @@ public class ProgramApplicationController {
      * 나의 신청 내역 조회
      */
     @GetMapping("/applications/my")
-    public ResponseEntity<?> getMyApplications(HttpSession session) {
+    public ResponseEntity<?> getMyApplications(SessionUser loginUser) {
 
         // 로그인 확인
-        Integer userId = (Integer) session.getAttribute("userId");
-        if (userId == null) {
+        if (loginUser == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", "로그인이 필요합니다."));
         }
+        Integer userId = loginUser.getUserId();
 
         try {
             List<ProgramApplication> applications = applicationService.getUserApplications(userId);
@@ -159,13 +207,13 @@ public class ProgramApplicationController {
     @GetMapping("/{programId}/my-application")
     public ResponseEntity<?> getMyApplicationForProgram(
             @PathVariable Integer programId,
-            HttpSession session) {
+            SessionUser loginUser) {
 
         // 로그인 확인
-        Integer userId = (Integer) session.getAttribute("userId");
-        if (userId == null) {
+        if (loginUser == null) {
             return ResponseEntity.ok(Map.of("applied", false));
         }
+        Integer userId = loginUser.getUserId();
 
         try {
             ProgramApplication application = applicationService.getUserApplicationForProgram(userId, programId);
@@ -193,11 +241,10 @@ public class ProgramApplicationController {
     @GetMapping("/{programId}/applications")
     public ResponseEntity<?> getProgramApplications(
             @PathVariable Integer programId,
-            HttpSession session) {
+            SessionUser loginUser) {
 
         // 관리자 확인
-        Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
-        if (isAdmin == null || !isAdmin) {
+        if (loginUser == null || !loginUser.isAdmin()) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "관리자 권한이 필요합니다."));
         }
@@ -223,25 +270,18 @@ public class ProgramApplicationController {
     @GetMapping("/{programId}/applications/excel")
     public ResponseEntity<?> downloadApplicationsExcel(
             @PathVariable Integer programId,
-            HttpSession session) {
+            SessionUser loginUser) {
 
         // 관리자 확인
-        Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
-        if (isAdmin == null || !isAdmin) {
+        if (loginUser == null || !loginUser.isAdmin()) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "관리자 권한이 필요합니다."));
         }
 
         try {
-            // 프로그램 정보 조회
+            // 프로그램 정보 조회 (스트리밍 시작 전에 검증하여 오류 시 상태 코드를 돌려줄 수 있도록 함)
             Program program = programService.getProgram(programId);
 
-            // 신청 내역 조회
-            List<ProgramApplication> applications = applicationService.getProgramApplications(programId);
-
-            // Excel 파일 생성
-            ByteArrayInputStream excelFile = excelService.generateApplicationsExcel(applications, program.getTitle());
-
             // 파일명 생성 (한글 인코딩 처리)
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
             String fileName = String.format("%s_신청자목록_%s.xlsx", program.getTitle(), timestamp);
@@ -252,11 +292,19 @@ public class ProgramApplicationController {
             headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName);
             headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
 
-            log.info("Excel 다운로드 성공: 프로그램 ID {}, 신청 수 {}", programId, applications.size());
+            // 신청 목록을 커서로 읽으면서 응답 스트림에 바로 기록
+            StreamingResponseBody body = out -> {
+                int count = excelService.writeApplicationsExcel(programId, program.getTitle(), out);
+                log.info("Excel 다운로드 성공: 프로그램 ID {}, 신청 수 {}", programId, count);
+            };
 
             return ResponseEntity.ok()
                     .headers(headers)
-                    .body(new InputStreamResource(excelFile));
+                    .body(body);
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", e.getMessage()));
 
         } catch (Exception e) {
             log.error("Excel 다운로드 실패: ", e);
@@ -265,17 +313,229 @@ public class ProgramApplicationController {
         }
     }
 
+    /**
+     * 프로그램별 신청 내역 CSV 다운로드 (관리자용, UTF-8 BOM)
+     */
+    @GetMapping("/{programId}/applications/csv")
+    public ResponseEntity<?> downloadApplicationsCsv(
+            @PathVariable Integer programId,
+            SessionUser loginUser) {
+        return exportApplications(ApplicationExportFilter.ofPrograms(List.of(programId)), "csv", true, loginUser);
+    }
+
+    /**
+     * 프로그램별 신청 내역 NDJSON 다운로드 (관리자용)
+     */
+    @GetMapping("/{programId}/applications/ndjson")
+    public ResponseEntity<?> downloadApplicationsNdjson(
+            @PathVariable Integer programId,
+            SessionUser loginUser) {
+        return exportApplications(ApplicationExportFilter.ofPrograms(List.of(programId)), "ndjson", true, loginUser);
+    }
+
+    /**
+     * 여러 프로그램의 신청 내역 일괄 내보내기 (관리자용)
+     * - 대상 프로그램은 ID 목록 또는 학과/단과대학/카테고리/신청 시작일 조건으로 지정 (생략 시 전체)
+     *
+     * @param format          csv, ndjson 또는 xlsx
+     * @param sheetPerProgram xlsx일 때 프로그램별 시트 사용 여부 (false면 한 시트에 프로그램 열 추가)
+     */
+    @GetMapping("/applications/export")
+    public ResponseEntity<?> exportApplications(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) List<Integer> programIds,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String college,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "true") boolean sheetPerProgram,
+            SessionUser loginUser) {
+        ApplicationExportFilter filter = toExportFilter(programIds, department, college, category, from, to);
+        return exportApplications(filter, format, sheetPerProgram, loginUser);
+    }
+
+    private ResponseEntity<?> exportApplications(ApplicationExportFilter filter, String format,
+                                                 boolean sheetPerProgram, SessionUser loginUser) {
+        // 관리자 확인
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        String extension = format.toLowerCase();
+        if (!List.of("csv", "ndjson", "xlsx").contains(extension)) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "지원하지 않는 형식입니다: " + format));
+        }
+
+        // 단일 프로그램이면 존재 여부를 스트리밍 시작 전에 확인
+        String prefix = "일괄";
+        if (filter.isSingleProgram()) {
+            try {
+                prefix = programService.getProgram(filter.getProgramIds().get(0)).getTitle();
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", e.getMessage()));
+            }
+        }
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        String fileName = String.format("%s_신청자목록_%s.%s", prefix, timestamp, extension);
+        String encodedFileName = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName);
+        headers.setContentType(exportMediaType(extension));
+
+        // 조건에 맞는 신청을 한 번의 커서 조회로 읽으면서 응답 스트림에 바로 기록
+        StreamingResponseBody body = out -> {
+            long count = switch (extension) {
+                case "csv" -> exportService.writeCsv(filter, out);
+                case "ndjson" -> exportService.writeNdjson(filter, out);
+                default -> excelService.writeBulkApplicationsExcel(filter, sheetPerProgram, out);
+            };
+            log.info("신청 내역 {} 다운로드 성공: 조건 {}, {}행", extension, filter.describe(), count);
+        };
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(body);
+    }
+
+    /**
+     * 신청자 목록 내보내기 작업 등록 (관리자용)
+     * - 파일은 백그라운드에서 생성되며, 작업 상태를 조회한 뒤 완료되면 내려받음
+     * - 대상 조건은 일괄 내보내기와 같음
+     *
+     * @param format xlsx, csv 또는 ndjson
+     */
+    @PostMapping("/applications/export-jobs")
+    public ResponseEntity<?> submitExportJob(
+            @RequestParam(defaultValue = "xlsx") String format,
+            @RequestParam(required = false) List<Integer> programIds,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String college,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "true") boolean sheetPerProgram,
+            SessionUser loginUser) {
+
+        // 관리자 확인
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        Integer userId = loginUser.getUserId();
+        ApplicationExportFilter filter = toExportFilter(programIds, department, college, category, from, to);
+
+        // 단일 프로그램이면 존재 여부를 등록 전에 확인
+        String programTitle = null;
+        if (filter.isSingleProgram()) {
+            try {
+                programTitle = programService.getProgram(filter.getProgramIds().get(0)).getTitle();
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", e.getMessage()));
+            }
+        }
+
+        try {
+            ExportJob job = exportJobService.submit(userId, format, filter, programTitle, sheetPerProgram);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(Map.of(
+                            "success", true,
+                            "message", "내보내기 작업이 등록되었습니다.",
+                            "job", job
+                    ));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 내보내기 작업 상태 조회 (관리자용)
+     */
+    @GetMapping("/applications/export-jobs/{jobId}")
+    public ResponseEntity<?> getExportJob(
+            @PathVariable String jobId,
+            SessionUser loginUser) {
+
+        // 관리자 확인
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        try {
+            Integer userId = loginUser.getUserId();
+            return ResponseEntity.ok(exportJobService.getJob(jobId, userId));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 완료된 내보내기 파일 다운로드 (관리자용)
+     */
+    @GetMapping("/applications/export-jobs/{jobId}/file")
+    public ResponseEntity<?> downloadExportFile(
+            @PathVariable String jobId,
+            SessionUser loginUser) {
+
+        // 관리자 확인
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        try {
+            Integer userId = loginUser.getUserId();
+            ExportJob job = exportJobService.getDownloadableJob(jobId, userId);
+
+            String encodedFileName = URLEncoder.encode(job.getFileName(), StandardCharsets.UTF_8).replaceAll("\\+", "%20");
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFileName);
+            headers.setContentType(exportMediaType(job.getFormat()));
+            headers.setContentLength(job.getFileSize());
+
+            // 파일 Resource를 그대로 반환하여 메모리에 올리지 않고 전송
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(new FileSystemResource(job.getFile()));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * 신청 승인 (관리자용)
      */
     @PostMapping("/applications/{applicationId}/approve")
     public ResponseEntity<?> approveApplication(
             @PathVariable Integer applicationId,
-            HttpSession session) {
+            SessionUser loginUser) {
 
         // 관리자 확인
-        Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
-        if (isAdmin == null || !isAdmin) {
+        if (loginUser == null || !loginUser.isAdmin()) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "관리자 권한이 필요합니다."));
         }
@@ -314,11 +574,10 @@ public class ProgramApplicationController {
     public ResponseEntity<?> rejectApplication(
             @PathVariable Integer applicationId,
             @RequestBody(required = false) Map<String, String> requestBody,
-            HttpSession session) {
+            SessionUser loginUser) {
 
         // 관리자 확인
-        Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
-        if (isAdmin == null || !isAdmin) {
+        if (loginUser == null || !loginUser.isAdmin()) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "관리자 권한이 필요합니다."));
         }
@@ -361,11 +620,10 @@ public class ProgramApplicationController {
     @PostMapping("/applications/{applicationId}/complete")
     public ResponseEntity<?> completeApplication(
             @PathVariable Integer applicationId,
-            HttpSession session) {
+            SessionUser loginUser) {
 
         // 관리자 확인
-        Boolean isAdmin = (Boolean) session.getAttribute("isAdmin");
-        if (isAdmin == null || !isAdmin) {
+        if (loginUser == null || !loginUser.isAdmin()) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Map.of("error", "관리자 권한이 필요합니다."));
         }
@@ -396,4 +654,162 @@ public class ProgramApplicationController {
                     .body(Map.of("error", "서버 오류가 발생했습니다."));
         }
     }
+
+    /**
+     * 신청 일괄 승인 (관리자용)
+     * - 요청 본문: {"applicationIds": [1, 2, ...]}
+     */
+    @PostMapping("/applications/bulk-approve")
+    public ResponseEntity<?> approveApplications(
+            @RequestBody(required = false) ApplicationBulkRequest request,
+            SessionUser loginUser) {
+
+        // 관리자 확인
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        try {
+            int count = applicationService.approveApplications(request != null ? request.getApplicationIds() : null);
+
+            log.info("신청 일괄 승인 성공: {}건", count);
+
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "count", count,
+                    "message", count + "건의 신청이 승인되었습니다."
+            ));
+
+        } catch (IllegalArgumentException e) {
+            log.error("신청 일괄 승인 실패 (잘못된 요청): {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (IllegalStateException e) {
+            log.error("신청 일괄 승인 실패 (상태 오류): {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("신청 일괄 승인 실패 (서버 오류): ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "서버 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 신청 일괄 거부 (관리자용)
+     * - 요청 본문: {"applicationIds": [1, 2, ...]}, "reason": "..."
+     */
+    @PostMapping("/applications/bulk-reject")
+    public ResponseEntity<?> rejectApplications(
+            @RequestBody(required = false) ApplicationBulkRequest request,
+            SessionUser loginUser) {
+
+        // 관리자 확인
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        try {
+            String reason = request != null ? request.getReason() : null;
+            if (reason == null || reason.trim().isEmpty()) {
+                reason = "관리자에 의해 거부됨";
+            }
+
+            int count = applicationService.rejectApplications(request != null ? request.getApplicationIds() : null,
+                    reason);
+
+            log.info("신청 일괄 거부 성공: {}건", count);
+
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "count", count,
+                    "message", count + "건의 신청이 거부되었습니다."
+            ));
+
+        } catch (IllegalArgumentException e) {
+            log.error("신청 일괄 거부 실패 (잘못된 요청): {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (IllegalStateException e) {
+            log.error("신청 일괄 거부 실패 (상태 오류): {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("신청 일괄 거부 실패 (서버 오류): ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "서버 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 신청 일괄 완료 처리 (관리자용)
+     * - 요청 본문: {"applicationIds": [1, 2, ...]}
+     */
+    @PostMapping("/applications/bulk-complete")
+    public ResponseEntity<?> completeApplications(
+            @RequestBody(required = false) ApplicationBulkRequest request,
+            SessionUser loginUser) {
+
+        // 관리자 확인
+        if (loginUser == null || !loginUser.isAdmin()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("error", "관리자 권한이 필요합니다."));
+        }
+
+        try {
+            int count = applicationService.completeApplications(request != null ? request.getApplicationIds() : null);
+
+            log.info("참여 일괄 완료 처리 성공: {}건", count);
+
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "count", count,
+                    "message", count + "건이 참여 완료 처리되었습니다."
+            ));
+
+        } catch (IllegalArgumentException e) {
+            log.error("참여 일괄 완료 처리 실패 (잘못된 요청): {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (IllegalStateException e) {
+            log.error("참여 일괄 완료 처리 실패 (상태 오류): {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("참여 일괄 완료 처리 실패 (서버 오류): ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "서버 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 일괄 내보내기 조건 생성 (기간은 신청 시작일 기준, 종료일 포함)
+     */
+    private ApplicationExportFilter toExportFilter(List<Integer> programIds, String department, String college,
+                                                   String category, LocalDate from, LocalDate to) {
+        return ApplicationExportFilter.builder()
+                .programIds(programIds)
+                .department(department)
+                .college(college)
+                .category(category)
+                .from(from != null ? from.atStartOfDay() : null)
+                .to(to != null ? to.plusDays(1).atStartOfDay() : null)
+                .build();
+    }
+
+    private MediaType exportMediaType(String format) {
+        return switch (format) {
+            case "csv" -> new MediaType("text", "csv", StandardCharsets.UTF_8);
+            case "ndjson" -> MediaType.parseMediaType("application/x-ndjson");
+            default -> MediaType.APPLICATION_OCTET_STREAM;
+        };
+    }
 }
@@ -2,8 +2,8 @@ package com.scms.app.controller;
 
 import com.scms.app.dto.ReviewRequest;
 import com.scms.app.dto.ReviewResponse;
+import com.scms.app.dto.SessionUser;
 import com.scms.app.service.ProgramReviewService;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -31,9 +31,9 @@ public class ProgramReviewController {
     @GetMapping
     public ResponseEntity<?> getReviews(
             @PathVariable Integer programId,
-            HttpSession session) {
+            SessionUser loginUser) {
         try {
-            Integer userId = (Integer) session.getAttribute("userId");
+            Integer userId = loginUser != null ? loginUser.getUserId() : null;
 
             List<ReviewResponse> reviews = reviewService.getReviewsByProgram(programId, userId);
             Double averageRating = reviewService.getAverageRating(programId);
@@ -61,13 +61,13 @@ public class ProgramReviewController {
     public ResponseEntity<?> createReview(
             @PathVariable Integer programId,
             @RequestBody ReviewRequest request,
-            HttpSession session) {
+            SessionUser loginUser) {
         try {
-            Integer userId = (Integer) session.getAttribute("userId");
-            if (userId == null) {
+            if (loginUser == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "로그인이 필요합니다."));
             }
+            Integer userId = loginUser.getUserId();
 
             ReviewResponse review = reviewService.createReview(userId, programId, request);
             log.info("후기 작성 성공: programId={}, userId={}, reviewId={}",
@@ -97,13 +97,13 @@ public class ProgramReviewController {
             @PathVariable Integer programId,
             @PathVariable Integer reviewId,
             @RequestBody ReviewRequest request,
-            HttpSession session) {
+            SessionUser loginUser) {
         try {
-            Integer userId = (Integer) session.getAttribute("userId");
-            if (userId == null) {
+            if (loginUser == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "로그인이 필요합니다."));
             }
+            Integer userId = loginUser.getUserId();
 
             ReviewResponse review = reviewService.updateReview(userId, reviewId, request);
             log.info("후기 수정 성공: programId={}, userId={}, reviewId={}",
@@ -132,13 +132,13 @@ public class ProgramReviewController {
     public ResponseEntity<?> deleteReview(
             @PathVariable Integer programId,
             @PathVariable Integer reviewId,
-            HttpSession session) {
+            SessionUser loginUser) {
         try {
-            Integer userId = (Integer) session.getAttribute("userId");
-            if (userId == null) {
+            if (loginUser == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of("error", "로그인이 필요합니다."));
             }
+            Integer userId = loginUser.getUserId();
 
             reviewService.deleteReview(userId, reviewId);
             log.info("후기 삭제 성공: programId={}, userId={}, reviewId={}",
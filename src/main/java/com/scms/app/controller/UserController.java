@@ -1,18 +1,32 @@
 package com.scms.app.controller;
 
+import com.scms.app.dto.SessionUser;
 import com.scms.app.dto.UserCreateRequest;
+import com.scms.app.dto.UserImportJob;
 import com.scms.app.dto.UserResponse;
+import com.scms.app.dto.UserSearchFilter;
+import com.scms.app.dto.UserSummaryResponse;
 import com.scms.app.dto.UserUpdateRequest;
 import com.scms.app.model.UserRole;
+import com.scms.app.service.UserExportService;
+import com.scms.app.service.UserImportJobService;
 import com.scms.app.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
 
 /**
  * 사용자 관리 REST API Controller (관리자용)
@@ -24,6 +38,8 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final UserExportService userExportService;
+    private final UserImportJobService userImportJobService;
 
     /**
      * 사용자 생성 API (관리자용)
@@ -40,6 +56,63 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 사용자 일괄 등록 API (관리자용)
+     * - 첫 행은 헤더 (학번, 이름, 이메일, 생년월일 필수 / 전화번호, 학과, 학년, 역할 선택)
+     * - 등록은 백그라운드 작업으로 실행되며, 작업 상태 API로 결과(등록/실패 수, 행별 오류)를 조회
+     *
+     * @param file     XLSX 또는 CSV 파일
+     * @param encoding CSV 문자 인코딩 (Excel에서 저장한 CSV는 MS949일 수 있음)
+     * @return 등록된 작업
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importUsers(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "UTF-8") String encoding,
+            SessionUser loginUser) throws IOException {
+        log.info("사용자 일괄 등록 요청: 파일 {} ({}바이트)", file.getOriginalFilename(), file.getSize());
+
+        if (loginUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "로그인이 필요합니다."));
+        }
+
+        try {
+            UserImportJob job = userImportJobService.submit(loginUser.getUserId(), file, encoding);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(Map.of(
+                            "success", true,
+                            "message", "일괄 등록 작업이 등록되었습니다.",
+                            "job", job
+                    ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 사용자 일괄 등록 작업 상태 조회 API (관리자용, 완료되면 등록 결과 포함)
+     */
+    @GetMapping("/import-jobs/{jobId}")
+    public ResponseEntity<?> getImportJob(@PathVariable String jobId, SessionUser loginUser) {
+        if (loginUser == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "로그인이 필요합니다."));
+        }
+
+        try {
+            return ResponseEntity.ok(userImportJobService.getJob(jobId, loginUser.getUserId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * 사용자 정보 수정 API
      *
@@ -84,26 +157,89 @@ public class UserController {
     }
 
     /**
-     * 모든 사용자 조회 API
+     * 사용자 목록 조회 API (페이지 단위)
      *
-     * @return 사용자 목록
+     * @param role       역할 (생략 시 전체)
+     * @param locked     잠금 여부 (생략 시 전체)
+     * @param department 학과 (생략 시 전체)
+     * @param name       이름 앞부분 (생략 시 전체)
+     * @param sort       정렬 기준 "속성,방향" (studentNum, name, department, grade, createdAt), 생략 시 학번순
+     * @return 사용자 목록과 페이지 정보
      */
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        List<UserResponse> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<?> getUsers(
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) Boolean locked,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        return searchUsers(toSearchFilter(role, locked, department, name), page, size, sort);
     }
 
     /**
-     * 역할별 사용자 조회 API
+     * 역할별 사용자 목록 조회 API (페이지 단위)
      *
      * @param role 사용자 역할 (STUDENT, COUNSELOR, ADMIN)
-     * @return 사용자 목록
+     * @return 사용자 목록과 페이지 정보
      */
     @GetMapping("/role/{role}")
-    public ResponseEntity<List<UserResponse>> getUsersByRole(@PathVariable UserRole role) {
-        List<UserResponse> users = userService.getUsersByRole(role);
-        return ResponseEntity.ok(users);
+    public ResponseEntity<?> getUsersByRole(
+            @PathVariable UserRole role,
+            @RequestParam(required = false) Boolean locked,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort) {
+        return searchUsers(toSearchFilter(role, locked, department, name), page, size, sort);
+    }
+
+    /**
+     * 사용자 목록 NDJSON 다운로드 API (전체 덤프, 목록 API와 같은 조건)
+     */
+    @GetMapping("/ndjson")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) Boolean locked,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String name) {
+        UserSearchFilter filter = toSearchFilter(role, locked, department, name);
+        log.info("사용자 목록 내보내기 요청: 조건 {}", filter.describe());
+
+        String fileName = "users_" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) + ".ndjson";
+        StreamingResponseBody body = out -> userExportService.writeNdjson(filter, out);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName)
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    private ResponseEntity<?> searchUsers(UserSearchFilter filter, int page, int size, String sort) {
+        try {
+            Page<UserSummaryResponse> users = userService.searchUsers(filter, page, size, sort);
+            return ResponseEntity.ok(Map.of(
+                    "content", users.getContent(),
+                    "page", users.getNumber(),
+                    "size", users.getSize(),
+                    "totalElements", users.getTotalElements(),
+                    "totalPages", users.getTotalPages()
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private UserSearchFilter toSearchFilter(UserRole role, Boolean locked, String department, String name) {
+        return UserSearchFilter.builder()
+                .role(role)
+                .locked(locked)
+                .department(department == null || department.isBlank() ? null : department)
+                .namePrefix(name == null || name.isBlank() ? null : name)
+                .build();
     }
 
     /**
@@ -0,0 +1,21 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 신청 일괄 승인/거부/완료 요청 DTO
+ * - 신청 ID 목록 검증(비어 있음, null, 개수 제한)은 ProgramApplicationService에서 한 번만 수행
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationBulkRequest {
+
+    private List<Integer> applicationIds;
+
+    private String reason; // 일괄 거부 시에만 사용 (선택)
+}
@@ -0,0 +1,65 @@
+package com.scms.app.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 신청자 일괄 내보내기 대상 조건 (모든 조건 optional, 지정된 조건은 AND로 결합)
+ * - from/to는 프로그램 신청 시작일 기준
+ */
+@Getter
+@Builder
+public class ApplicationExportFilter {
+
+    private List<Integer> programIds;
+    private String department;
+    private String college;
+    private String category;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    /**
+     * 지정한 프로그램만 대상으로 하는 조건
+     */
+    public static ApplicationExportFilter ofPrograms(List<Integer> programIds) {
+        return ApplicationExportFilter.builder().programIds(programIds).build();
+    }
+
+    public boolean hasProgramIds() {
+        return programIds != null && !programIds.isEmpty();
+    }
+
+    /**
+     * 프로그램 하나만 지정되었는지 확인
+     */
+    public boolean isSingleProgram() {
+        return hasProgramIds() && programIds.size() == 1
+                && department == null && college == null && category == null && from == null && to == null;
+    }
+
+    /**
+     * 로그용 조건 설명
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder();
+        if (hasProgramIds()) {
+            description.append("programIds=").append(programIds).append(' ');
+        }
+        if (department != null) {
+            description.append("department=").append(department).append(' ');
+        }
+        if (college != null) {
+            description.append("college=").append(college).append(' ');
+        }
+        if (category != null) {
+            description.append("category=").append(category).append(' ');
+        }
+        if (from != null || to != null) {
+            description.append("period=").append(from).append('~').append(to);
+        }
+        return description.length() == 0 ? "전체" : description.toString().trim();
+    }
+}
@@ -0,0 +1,32 @@
+package com.scms.app.dto;
+
+import com.scms.app.model.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신청자 목록 내보내기 행 (ApplicationExportService의 JDBC 조회 결과, 엔티티를 영속성 컨텍스트에 올리지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class ApplicationExportRow {
+
+    private Integer programId;
+    private String programTitle;
+    private Integer applicationId;
+    private Integer studentNum;
+    private String name;
+    private String phone;
+    private String email;
+    private String department;
+    private Integer grade;
+    private ApplicationStatus status;
+    private LocalDateTime appliedAt;
+    private LocalDateTime approvedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime rejectedAt;
+    private LocalDateTime cancelledAt;
+    private String rejectionReason;
+}
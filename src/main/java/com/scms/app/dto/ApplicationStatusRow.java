@@ -0,0 +1,17 @@
+package com.scms.app.dto;
+
+import com.scms.app.model.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 처리 전 상태 확인용 신청 행 (JPQL 생성자 표현식으로 조회, 엔티티를 영속성 컨텍스트에 올리지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class ApplicationStatusRow {
+
+    private Integer applicationId;
+    private Integer programId;
+    private ApplicationStatus status;
+}
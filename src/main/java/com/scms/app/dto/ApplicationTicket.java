@@ -0,0 +1,52 @@
+package com.scms.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로그램 신청 접수 티켓
+ * - 비동기 신청 파이프라인에서 발급되며, 클라이언트는 ticketId로 처리 결과를 조회
+ * - 상태는 application_tickets 테이블에 저장되며, 이 객체는 조회 시점의 불변 사본
+ */
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ApplicationTicket {
+
+    private String ticketId;
+
+    @JsonIgnore
+    private Integer userId;
+
+    private Integer programId;
+    private Status status;
+    private String statusDescription;
+    private Integer applicationId;
+    private String message;
+    private LocalDateTime receivedAt;
+    private LocalDateTime processedAt;
+
+    /**
+     * 티켓 상태
+     */
+    public enum Status {
+        RECEIVED("접수"),
+        COMPLETED("신청 완료"),
+        REJECTED("신청 불가"),
+        FAILED("처리 실패");
+
+        private final String description;
+
+        Status(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
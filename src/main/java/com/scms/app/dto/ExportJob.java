@@ -0,0 +1,71 @@
+package com.scms.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * 신청자 목록 내보내기 작업
+ * - 백그라운드에서 파일로 생성되며, 클라이언트는 jobId로 진행 상태를 조회한 뒤 파일을 내려받음
+ * - 상태는 export_jobs 테이블에 저장되며, 조회할 때마다 새로 만들어지는 불변 객체
+ */
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ExportJob {
+
+    private String jobId;
+
+    @JsonIgnore
+    private Integer userId;
+
+    @JsonIgnore
+    private Path file;
+
+    @JsonIgnore
+    private ApplicationExportFilter filter;
+
+    private String target;
+    private String format;
+    private Boolean sheetPerProgram;
+    private String fileName;
+    private Status status;
+    private String statusDescription;
+    private Long rowCount;
+    private Long fileSize;
+    private String message;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime expiresAt;
+
+    /**
+     * 내려받을 수 있는 상태인지 확인
+     */
+    public boolean isDownloadable() {
+        return status == Status.COMPLETED && file != null;
+    }
+
+    /**
+     * 작업 상태
+     */
+    public enum Status {
+        QUEUED("대기 중"),
+        RUNNING("생성 중"),
+        COMPLETED("생성 완료"),
+        FAILED("생성 실패");
+
+        private final String description;
+
+        Status(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.scms.app.dto;
+
+import com.scms.app.model.Program;
+import com.scms.app.model.ProgramStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로그램 카드 DTO (목록 화면용)
+ * - JPQL 생성자 표현식으로 조회하여 description/content(TEXT) 컬럼을 읽지 않음
+ * - content는 존재 여부(hasContent)만 조회
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgramCardResponse {
+
+    private Integer programId;
+    private String title;
+    private String department;
+    private String category;
+    private String subCategory;
+    private LocalDateTime applicationStartDate;
+    private LocalDateTime applicationEndDate;
+    private Integer maxParticipants;
+    private Integer currentParticipants;
+    private Integer hits;
+    private ProgramStatus status;
+    private Boolean hasContent;
+    private LocalDateTime createdAt;
+
+    /**
+     * D-day 계산 (신청 종료일 기준, Program과 같은 계산)
+     */
+    public Long getDDay() {
+        return Program.calculateDDay(applicationEndDate);
+    }
+
+    /**
+     * 참가율 계산 (%, Program과 같은 계산)
+     */
+    public Integer getParticipationRate() {
+        return Program.calculateParticipationRate(currentParticipants, maxParticipants);
+    }
+}
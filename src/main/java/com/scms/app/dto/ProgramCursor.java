@@ -0,0 +1,53 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 프로그램 목록 커서 (keyset 페이지네이션)
+ * - 마지막으로 본 카드의 (createdAt, programId)를 불투명 토큰으로 인코딩
+ */
+@Getter
+@AllArgsConstructor
+public class ProgramCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Integer programId;
+
+    /**
+     * 카드의 정렬 키로 커서 생성
+     */
+    public static ProgramCursor of(ProgramCardResponse card) {
+        return new ProgramCursor(card.getCreatedAt(), card.getProgramId());
+    }
+
+    /**
+     * 토큰 → 커서
+     */
+    public static ProgramCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(SEPARATOR);
+            return new ProgramCursor(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    Integer.valueOf(decoded.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 페이지 정보입니다.");
+        }
+    }
+
+    /**
+     * 커서 → 토큰
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + programId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,39 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 프로그램 필터 항목별 개수 (행정부서/단과대학/카테고리)
+ */
+@Getter
+@AllArgsConstructor
+public class ProgramFacets {
+
+    /**
+     * 필터 종류 키 (집계 쿼리의 facet 값, 화면의 getCount 첫 인자와 동일)
+     */
+    public static final String DEPARTMENT = "department";
+    public static final String COLLEGE = "college";
+    public static final String CATEGORY = "category";
+
+    /**
+     * 삭제되지 않은 전체 프로그램 수
+     */
+    private final long total;
+
+    /**
+     * 필터 종류 → (항목 → 프로그램 수)
+     */
+    private final Map<String, Map<String, Long>> counts;
+
+    /**
+     * 특정 필터 항목의 프로그램 수 (없으면 0)
+     */
+    public long getCount(String facet, String facetValue) {
+        return counts.getOrDefault(facet, Collections.emptyMap()).getOrDefault(facetValue, 0L);
+    }
+}
@@ -55,4 +55,6 @@ public class ProgramRequest {
 
     @NotNull(message = "프로그램 상태는 필수입니다")
     private ProgramStatus status;
+
+    private Boolean highDemand;
 }
@@ -61,4 +61,26 @@ public class ReviewResponse {
         response.setIsEditable(review.isEditableBy(currentUserId));
         return response;
     }
+
+    /**
+     * 작성 직후 Entity를 DTO로 변환 (작성자 정보는 로그인 사용자 스냅샷 사용, users 행을 읽지 않음)
+     */
+    public static ReviewResponse from(ProgramReview review, SessionUser author) {
+        Integer studentNum = author.getStudentNum();
+
+        return ReviewResponse.builder()
+                .reviewId(review.getReviewId())
+                .programId(review.getProgram().getProgramId())
+                .programTitle(review.getProgram().getTitle())
+                .userId(author.getUserId())
+                .userName(author.getName())
+                .userStudentNum(studentNum != null ? studentNum.toString() : null)
+                .rating(review.getRating())
+                .content(review.getContent())
+                .imageUrl(review.getImageUrl())
+                .createdAt(review.getCreatedAt())
+                .updatedAt(review.getUpdatedAt())
+                .isEditable(true) // 작성자 본인
+                .build();
+    }
 }
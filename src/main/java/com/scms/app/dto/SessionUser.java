@@ -0,0 +1,46 @@
+package com.scms.app.dto;
+
+import com.scms.app.model.User;
+import com.scms.app.model.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 로그인 사용자 정보 (요청 단위 불변 객체)
+ * - 컨트롤러 메서드 파라미터로 선언하면 SessionUserArgumentResolver가 세션의 userId와
+ *   사용자 스냅샷 캐시로 요청당 한 번만 만들어 주입함 (비로그인 또는 삭제된 사용자는 null)
+ * - 같은 객체가 UserSnapshotService의 캐시 값으로도 쓰이므로 비밀번호/잠금 상태는 담지 않음
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class SessionUser {
+
+    private final Integer userId;
+    private final Integer studentNum;
+    private final String name;
+    private final String email;
+    private final UserRole role;
+    private final String department;
+    private final Integer grade;
+
+    /**
+     * Entity에서 생성
+     */
+    public static SessionUser from(User user) {
+        return SessionUser.builder()
+                .userId(user.getUserId())
+                .studentNum(user.getStudentNum())
+                .name(user.getName())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .department(user.getDepartment())
+                .grade(user.getGrade())
+                .build();
+    }
+
+    public boolean isAdmin() {
+        return role == UserRole.ADMIN;
+    }
+}
@@ -0,0 +1,52 @@
+package com.scms.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 일괄 등록 작업
+ * - 업로드한 파일은 백그라운드에서 등록되며, 클라이언트는 jobId로 진행 상태와 결과를 조회함
+ * - 상태는 user_import_jobs 테이블에 저장되며, 조회할 때마다 새로 만들어지는 불변 객체
+ */
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UserImportJob {
+
+    private String jobId;
+
+    @JsonIgnore
+    private Integer userId;
+
+    private String fileName;
+    private Status status;
+    private String statusDescription;
+    private String message;
+    private UserImportResult result;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * 작업 상태
+     */
+    public enum Status {
+        QUEUED("대기 중"),
+        RUNNING("등록 중"),
+        COMPLETED("등록 완료"),
+        FAILED("등록 실패");
+
+        private final String description;
+
+        Status(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
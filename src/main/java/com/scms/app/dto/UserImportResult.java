@@ -0,0 +1,37 @@
+package com.scms.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록 결과
+ * - 실패한 행은 파일의 행 번호(헤더 = 1행)와 사유를 함께 반환
+ */
+@Getter
+@Builder
+public class UserImportResult {
+
+    private String fileName;
+    private int totalRows;
+    private int createdCount;
+    private int failedCount;
+    private long elapsedMs;
+    private List<RowError> errors;
+
+    /**
+     * 행 단위 오류
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        private int rowNumber;
+        private String studentNum;
+        private String message;
+    }
+}
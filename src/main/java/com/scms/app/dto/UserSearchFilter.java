@@ -0,0 +1,61 @@
+package com.scms.app.dto;
+
+import com.scms.app.model.UserRole;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자 목록 검색 조건 (모든 조건 optional, 지정된 조건은 AND로 결합)
+ * - namePrefix는 이름 앞부분 일치 (LIKE 'prefix%', 이름 인덱스 사용)
+ */
+@Getter
+@Builder
+public class UserSearchFilter {
+
+    /**
+     * LIKE 패턴 이스케이프 문자 (MySQL/H2 모두 문자열 리터럴에서 특별한 의미가 없는 문자)
+     */
+    public static final char LIKE_ESCAPE = '!';
+
+    private UserRole role;
+    private Boolean locked;
+    private String department;
+    private String namePrefix;
+
+    /**
+     * LIKE 패턴으로 쓸 이름 접두어 (%, _ 이스케이프, 비어 있으면 null)
+     */
+    public String getNamePrefixPattern() {
+        if (namePrefix == null || namePrefix.isBlank()) {
+            return null;
+        }
+        StringBuilder pattern = new StringBuilder();
+        for (char c : namePrefix.trim().toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    /**
+     * 로그용 조건 설명
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder();
+        if (role != null) {
+            description.append("역할=").append(role).append(' ');
+        }
+        if (locked != null) {
+            description.append("잠금=").append(locked).append(' ');
+        }
+        if (department != null) {
+            description.append("학과=").append(department).append(' ');
+        }
+        if (namePrefix != null) {
+            description.append("이름=").append(namePrefix).append("* ");
+        }
+        return description.length() == 0 ? "전체" : description.toString().trim();
+    }
+}
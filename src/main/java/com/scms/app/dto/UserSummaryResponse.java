@@ -0,0 +1,29 @@
+package com.scms.app.dto;
+
+import com.scms.app.model.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 목록 DTO (관리자 목록 화면/API용)
+ * - 필요한 컬럼만 SQL로 조회하여 비밀번호 해시, 연락처 등 목록에 필요 없는 컬럼을 읽지 않음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummaryResponse {
+
+    private Integer userId;
+    private Integer studentNum;
+    private String name;
+    private String email;
+    private String department;
+    private Integer grade;
+    private UserRole role;
+    private Boolean locked;
+    private Integer failCnt;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package com.scms.app.exception;
+
+/**
+ * 로그인 실패가 반복되어 시도가 일시적으로 제한되었을 때 발생하는 예외
+ */
+public class LoginRateLimitedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginRateLimitedException(long retryAfterSeconds) {
+        super("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
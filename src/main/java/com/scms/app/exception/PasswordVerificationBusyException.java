@@ -0,0 +1,18 @@
+package com.scms.app.exception;
+
+/**
+ * 비밀번호 확인 대기열이 가득 차 요청을 처리할 수 없을 때 발생하는 예외
+ */
+public class PasswordVerificationBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordVerificationBusyException(long retryAfterSeconds) {
+        super("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,52 @@
+package com.scms.app.model;
+
+import com.scms.app.dto.ApplicationTicket;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신청 접수 티켓 (비동기 신청 파이프라인의 처리 결과)
+ * - 어느 인스턴스에서 접수했든 같은 티켓을 조회할 수 있도록 DB에 저장 (쓰기는 ApplicationPipeline이 JDBC로 처리)
+ */
+@Entity
+@Table(name = "application_tickets", indexes = {
+        @Index(name = "idx_application_tickets_status_received", columnList = "status, received_at"),
+        @Index(name = "idx_application_tickets_processed_at", columnList = "processed_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationTicketRecord {
+
+    @Id
+    @Column(name = "ticket_id", length = 36)
+    private String ticketId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "program_id", nullable = false)
+    private Integer programId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private ApplicationTicket.Status status;
+
+    @Column(name = "application_id")
+    private Integer applicationId;
+
+    @Column(name = "message", length = 255)
+    private String message;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,71 @@
+package com.scms.app.model;
+
+import com.scms.app.dto.ExportJob;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신청자 목록 내보내기 작업
+ * - 어느 인스턴스에서 등록했든 같은 작업을 조회/다운로드할 수 있도록 DB에 저장 (쓰기는 ExportJobService가 JDBC로 처리)
+ * - 파일은 scms.export.directory 아래 storedFile 이름으로 저장
+ */
+@Entity
+@Table(name = "export_jobs", indexes = {
+        @Index(name = "idx_export_jobs_status_requested", columnList = "status, requested_at"),
+        @Index(name = "idx_export_jobs_expires_at", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExportJobRecord {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "target", length = 255, nullable = false)
+    private String target;
+
+    @Column(name = "format", length = 10, nullable = false)
+    private String format;
+
+    @Column(name = "sheet_per_program", nullable = false)
+    private Boolean sheetPerProgram;
+
+    @Column(name = "file_name", length = 255, nullable = false)
+    private String fileName;
+
+    @Column(name = "stored_file", length = 60, nullable = false)
+    private String storedFile;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private ExportJob.Status status;
+
+    @Column(name = "row_count")
+    private Long rowCount;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "message", length = 255)
+    private String message;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,46 @@
+package com.scms.app.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * IP별 일일 로그인 실패 집계 (일 단위로 login_history에서 생성)
+ */
+@Entity
+@Table(name = "login_failure_ip_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_login_failure_ip_rollups_date_ip", columnNames = {"stat_date", "ip_address"})
+}, indexes = {
+        @Index(name = "idx_login_failure_ip_rollups_date_count", columnList = "stat_date, failure_count")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoginFailureIpRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "ip_address", nullable = false, length = 45)
+    private String ipAddress;
+
+    @Column(name = "failure_count", nullable = false)
+    private Long failureCount;
+
+    @Column(name = "user_count", nullable = false)
+    private Long userCount; // 실패한 서로 다른 사용자 수
+
+    @Column(name = "last_failed_at", nullable = false)
+    private LocalDateTime lastFailedAt;
+}
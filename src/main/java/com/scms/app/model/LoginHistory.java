@@ -10,9 +10,15 @@ import java.time.LocalDateTime;
 
 /**
  * 로그인 이력 엔티티
+ * - 운영 DB에서는 login_at 기준 월 단위 RANGE 파티션 테이블로 관리 (database/login_history_partitioning.sql)
+ * - 파티션 테이블은 외래키를 가질 수 없으므로 user_id 외래키 제약은 만들지 않음
  */
 @Entity
-@Table(name = "login_history")
+@Table(name = "login_history", indexes = {
+        @Index(name = "idx_login_history_user_login", columnList = "user_id, login_at"),
+        @Index(name = "idx_login_history_ip_login", columnList = "ip_address, login_at"),
+        @Index(name = "idx_login_history_success_login", columnList = "is_success, login_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,10 +31,10 @@ public class LoginHistory {
     private Integer historyId;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
-    @Column(name = "login_at")
+    @Column(name = "login_at", nullable = false)
     private LocalDateTime loginAt;
 
     @Column(name = "ip_address", length = 45)
@@ -0,0 +1,43 @@
+package com.scms.app.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 시간대별 로그인 집계 (일 단위로 login_history에서 생성, 원본 이력이 보관 기간을 지나 삭제되어도 유지)
+ */
+@Entity
+@Table(name = "login_hourly_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_login_hourly_rollups_date_hour", columnNames = {"stat_date", "stat_hour"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LoginHourlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "stat_hour", nullable = false)
+    private Integer statHour; // 0-23
+
+    @Column(name = "success_count", nullable = false)
+    private Long successCount;
+
+    @Column(name = "failure_count", nullable = false)
+    private Long failureCount;
+
+    @Column(name = "user_count", nullable = false)
+    private Long userCount; // 로그인을 시도한 서로 다른 사용자 수
+}
@@ -5,14 +5,20 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 /**
  * 비교과 프로그램 엔티티
+ * - current_participants, hits는 원자적 UPDATE로 갱신되므로 변경된 컬럼만 UPDATE 하도록 @DynamicUpdate 적용
  */
 @Entity
-@Table(name = "programs")
+@DynamicUpdate
+@Table(name = "programs", indexes = {
+        @Index(name = "idx_programs_deleted_created", columnList = "deleted_at, created_at"),
+        @Index(name = "idx_programs_deleted_hits", columnList = "deleted_at, hits")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -67,6 +73,12 @@ public class Program {
     @Column(name = "status", length = 20, nullable = false)
     private ProgramStatus status = ProgramStatus.SCHEDULED;
 
+    /**
+     * 고수요 모드 (잔여 좌석을 메모리 카운터로 관리하고 신청을 비동기 일괄 저장)
+     */
+    @Column(name = "high_demand")
+    private Boolean highDemand = false;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -101,6 +113,13 @@ public class Program {
         return this.deletedAt != null;
     }
 
+    /**
+     * 고수요 모드 여부 (정원이 있는 프로그램만 적용)
+     */
+    public boolean isHighDemandMode() {
+        return Boolean.TRUE.equals(highDemand) && maxParticipants != null;
+    }
+
     /**
      * 조회수 증가
      */
@@ -153,6 +172,20 @@ public class Program {
      * D-day 계산 (신청 종료일 기준)
      */
     public Long getDDay() {
+        return calculateDDay(applicationEndDate);
+    }
+
+    /**
+     * 참가율 계산 (%)
+     */
+    public Integer getParticipationRate() {
+        return calculateParticipationRate(currentParticipants, maxParticipants);
+    }
+
+    /**
+     * D-day 계산 (상세 화면과 카드 목록 공용, 신청 종료일이 지났으면 null)
+     */
+    public static Long calculateDDay(LocalDateTime applicationEndDate) {
         LocalDateTime now = LocalDateTime.now();
         if (now.isAfter(applicationEndDate)) {
             return null;
@@ -161,9 +194,9 @@ public class Program {
     }
 
     /**
-     * 참가율 계산 (%)
+     * 참가율 계산 (%, 상세 화면과 카드 목록 공용)
      */
-    public Integer getParticipationRate() {
+    public static Integer calculateParticipationRate(Integer currentParticipants, Integer maxParticipants) {
         if (maxParticipants == null || maxParticipants == 0) {
             return 0;
         }
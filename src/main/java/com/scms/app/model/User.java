@@ -14,7 +14,13 @@ import java.time.LocalDateTime;
  * - 학생, 상담사, 관리자 통합 관리
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 이름 앞부분 검색용
+        @Index(name = "idx_users_name", columnList = "name"),
+        // 역할/학과 조건의 기본 정렬(학번순) 목록용 (잠금 여부는 값이 두 개뿐이라 인덱스를 두지 않음)
+        @Index(name = "idx_users_role_student_num", columnList = "role, student_num"),
+        @Index(name = "idx_users_department_student_num", columnList = "department, student_num")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,65 @@
+package com.scms.app.model;
+
+import com.scms.app.dto.UserImportJob;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 일괄 등록 작업
+ * - 어느 인스턴스에서 등록했든 같은 작업을 조회할 수 있도록 DB에 저장 (쓰기는 UserImportJobService가 JDBC로 처리)
+ * - 행별 오류는 JSON 배열로 저장
+ */
+@Entity
+@Table(name = "user_import_jobs", indexes = {
+        @Index(name = "idx_user_import_jobs_status_requested", columnList = "status, requested_at"),
+        @Index(name = "idx_user_import_jobs_completed_at", columnList = "completed_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserImportJobRecord {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "file_name", length = 255, nullable = false)
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private UserImportJob.Status status;
+
+    @Column(name = "message", length = 255)
+    private String message;
+
+    @Column(name = "total_rows")
+    private Integer totalRows;
+
+    @Column(name = "created_count")
+    private Integer createdCount;
+
+    @Column(name = "failed_count")
+    private Integer failedCount;
+
+    @Column(name = "elapsed_ms")
+    private Long elapsedMs;
+
+    @Column(name = "errors", columnDefinition = "MEDIUMTEXT")
+    private String errors;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,21 @@
+package com.scms.app.repository;
+
+import com.scms.app.model.LoginFailureIpRollup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * IP별 로그인 실패 집계 Repository
+ */
+@Repository
+public interface LoginFailureIpRollupRepository extends JpaRepository<LoginFailureIpRollup, Long> {
+
+    /**
+     * 날짜별 실패가 많은 IP 조회 (페이징)
+     */
+    Page<LoginFailureIpRollup> findByStatDateOrderByFailureCountDesc(LocalDate statDate, Pageable pageable);
+}
@@ -2,59 +2,51 @@ package com.scms.app.repository;
 
 import com.scms.app.model.LoginHistory;
 import com.scms.app.model.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * 로그인 이력 Repository
+ * - 이력은 수백만 행까지 늘어나므로 모든 목록 조회는 페이징하며, 전체 건수 COUNT 없이 Slice로 반환
+ * - 각 조회는 (조건 컬럼, login_at) 복합 인덱스를 사용하도록 login_at 역순 정렬
  */
 @Repository
 public interface LoginHistoryRepository extends JpaRepository<LoginHistory, Integer> {
 
     /**
-     * 사용자별 로그인 이력 조회 (최신순)
+     * 사용자별 로그인 이력 조회 (최신순, idx_login_history_user_login)
      */
-    List<LoginHistory> findByUserOrderByLoginAtDesc(User user);
+    Slice<LoginHistory> findByUserOrderByLoginAtDesc(User user, Pageable pageable);
 
     /**
-     * 사용자별 로그인 이력 조회 (페이징)
-     */
-    Page<LoginHistory> findByUserOrderByLoginAtDesc(User user, Pageable pageable);
-
-    /**
-     * 성공한 로그인 이력 조회
+     * 성공한 로그인 이력 조회 (최신순, idx_login_history_success_login)
      */
     @Query("SELECT lh FROM LoginHistory lh WHERE lh.isSuccess = true ORDER BY lh.loginAt DESC")
-    Page<LoginHistory> findSuccessfulLogins(Pageable pageable);
+    Slice<LoginHistory> findSuccessfulLogins(Pageable pageable);
 
     /**
-     * 실패한 로그인 이력 조회
+     * 실패한 로그인 이력 조회 (최신순, idx_login_history_success_login)
      */
     @Query("SELECT lh FROM LoginHistory lh WHERE lh.isSuccess = false ORDER BY lh.loginAt DESC")
-    Page<LoginHistory> findFailedLogins(Pageable pageable);
-
-    /**
-     * 특정 기간 내 로그인 이력 조회
-     */
-    @Query("SELECT lh FROM LoginHistory lh WHERE lh.loginAt BETWEEN :startDate AND :endDate ORDER BY lh.loginAt DESC")
-    List<LoginHistory> findByLoginAtBetween(@Param("startDate") LocalDateTime startDate,
-                                            @Param("endDate") LocalDateTime endDate);
+    Slice<LoginHistory> findFailedLogins(Pageable pageable);
 
     /**
-     * IP 주소로 로그인 이력 조회
+     * 특정 기간 내 로그인 이력 조회 (최신순, 파티션 프루닝 대상)
      */
-    List<LoginHistory> findByIpAddress(String ipAddress);
+    @Query("SELECT lh FROM LoginHistory lh WHERE lh.loginAt >= :startDate AND lh.loginAt < :endDate " +
+           "ORDER BY lh.loginAt DESC")
+    Slice<LoginHistory> findByLoginAtBetween(@Param("startDate") LocalDateTime startDate,
+                                             @Param("endDate") LocalDateTime endDate,
+                                             Pageable pageable);
 
     /**
-     * 특정 사용자의 최근 로그인 이력 조회
+     * IP 주소로 로그인 이력 조회 (최신순, idx_login_history_ip_login)
      */
-    @Query("SELECT lh FROM LoginHistory lh WHERE lh.user = :user ORDER BY lh.loginAt DESC")
-    Page<LoginHistory> findRecentLoginsByUser(@Param("user") User user, Pageable pageable);
+    Slice<LoginHistory> findByIpAddressOrderByLoginAtDesc(String ipAddress, Pageable pageable);
 }
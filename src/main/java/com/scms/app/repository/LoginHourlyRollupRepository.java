@@ -0,0 +1,20 @@
+package com.scms.app.repository;
+
+import com.scms.app.model.LoginHourlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 시간대별 로그인 집계 Repository
+ */
+@Repository
+public interface LoginHourlyRollupRepository extends JpaRepository<LoginHourlyRollup, Long> {
+
+    /**
+     * 기간 내 시간대별 집계 조회 (날짜, 시간순 / 하루 최대 24행)
+     */
+    List<LoginHourlyRollup> findByStatDateBetweenOrderByStatDateAscStatHourAsc(LocalDate startDate, LocalDate endDate);
+}
@@ -1,12 +1,16 @@
 package com.scms.app.repository;
 
+import com.scms.app.dto.ApplicationStatusRow;
 import com.scms.app.model.ApplicationStatus;
 import com.scms.app.model.ProgramApplication;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -100,4 +104,63 @@ public interface ProgramApplicationRepository extends JpaRepository<ProgramAppli
            "AND pa.status = 'APPROVED' " +
            "AND pa.deletedAt IS NULL")
     Long countApprovedApplicationsByProgramId(@Param("programId") Integer programId);
+
+    /**
+     * 프로그램의 활성 신청 개수 조회 (대기/승인/완료)
+     */
+    @Query("SELECT COUNT(pa) FROM ProgramApplication pa " +
+           "WHERE pa.program.programId = :programId " +
+           "AND pa.status IN ('PENDING', 'APPROVED', 'COMPLETED') " +
+           "AND pa.deletedAt IS NULL")
+    long countActiveApplicationsByProgramId(@Param("programId") Integer programId);
+
+    /**
+     * 일괄 처리 대상 신청의 상태와 프로그램 조회 (삭제되지 않은 것만, 한 번의 IN 조회)
+     */
+    @Query("SELECT new com.scms.app.dto.ApplicationStatusRow(pa.applicationId, pa.program.programId, pa.status) " +
+           "FROM ProgramApplication pa " +
+           "WHERE pa.applicationId IN :applicationIds " +
+           "AND pa.deletedAt IS NULL")
+    List<ApplicationStatusRow> findStatusRowsByIds(@Param("applicationIds") Collection<Integer> applicationIds);
+
+    /**
+     * 대기 중인 신청 일괄 승인
+     * - 상태 조건을 WHERE에 두어 조회 이후 다른 요청이 상태를 바꾼 행은 갱신하지 않음 (반환값으로 확인)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProgramApplication pa SET " +
+           "pa.status = com.scms.app.model.ApplicationStatus.APPROVED, " +
+           "pa.approvedAt = :now, pa.updatedAt = :now " +
+           "WHERE pa.applicationId IN :applicationIds " +
+           "AND pa.status = com.scms.app.model.ApplicationStatus.PENDING " +
+           "AND pa.deletedAt IS NULL")
+    int approvePending(@Param("applicationIds") Collection<Integer> applicationIds,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 대기 중인 신청 일괄 거부
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProgramApplication pa SET " +
+           "pa.status = com.scms.app.model.ApplicationStatus.REJECTED, " +
+           "pa.rejectedAt = :now, pa.rejectionReason = :reason, pa.updatedAt = :now " +
+           "WHERE pa.applicationId IN :applicationIds " +
+           "AND pa.status = com.scms.app.model.ApplicationStatus.PENDING " +
+           "AND pa.deletedAt IS NULL")
+    int rejectPending(@Param("applicationIds") Collection<Integer> applicationIds,
+                      @Param("reason") String reason,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 승인된 신청 일괄 완료 처리
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProgramApplication pa SET " +
+           "pa.status = com.scms.app.model.ApplicationStatus.COMPLETED, " +
+           "pa.completedAt = :now, pa.updatedAt = :now " +
+           "WHERE pa.applicationId IN :applicationIds " +
+           "AND pa.status = com.scms.app.model.ApplicationStatus.APPROVED " +
+           "AND pa.deletedAt IS NULL")
+    int completeApproved(@Param("applicationIds") Collection<Integer> applicationIds,
+                         @Param("now") LocalDateTime now);
 }
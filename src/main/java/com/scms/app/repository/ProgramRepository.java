@@ -1,10 +1,13 @@
 package com.scms.app.repository;
 
+import com.scms.app.dto.ProgramCardResponse;
 import com.scms.app.model.Program;
 import com.scms.app.model.ProgramStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -93,14 +96,55 @@ public interface ProgramRepository extends JpaRepository<Program, Integer> {
     );
 
     /**
-     * 복합 필터 검색 with 페이지네이션
+     * 프로그램 카드 조회용 SELECT 절 (TEXT 컬럼 제외)
      */
-    @Query("SELECT p FROM Program p WHERE " +
+    String CARD_SELECT = "SELECT new com.scms.app.dto.ProgramCardResponse(" +
+            "p.programId, p.title, p.department, p.category, p.subCategory, " +
+            "p.applicationStartDate, p.applicationEndDate, p.maxParticipants, p.currentParticipants, " +
+            "p.hits, p.status, CASE WHEN p.content IS NOT NULL THEN true ELSE false END, p.createdAt) ";
+
+    /**
+     * 최신 프로그램 카드 조회 (상위 N개는 Pageable로 지정, idx_programs_deleted_created 사용)
+     */
+    @Query(CARD_SELECT + "FROM Program p WHERE p.deletedAt IS NULL ORDER BY p.createdAt DESC")
+    List<ProgramCardResponse> findLatestCards(Pageable pageable);
+
+    /**
+     * 인기 프로그램 카드 조회 (조회수순 상위 N개는 Pageable로 지정, idx_programs_deleted_hits 사용)
+     */
+    @Query(CARD_SELECT + "FROM Program p WHERE p.deletedAt IS NULL ORDER BY p.hits DESC")
+    List<ProgramCardResponse> findPopularCards(Pageable pageable);
+
+    /**
+     * 복합 필터 카드 조회 (모든 조건 optional)
+     */
+    @Query(CARD_SELECT + "FROM Program p WHERE " +
+           "(:department IS NULL OR p.department = :department) AND " +
+           "(:college IS NULL OR p.college = :college) AND " +
+           "(:category IS NULL OR p.category = :category) AND " +
+           "p.deletedAt IS NULL " +
+           "ORDER BY p.createdAt DESC")
+    List<ProgramCardResponse> findCardsByFilters(
+        @Param("department") String department,
+        @Param("college") String college,
+        @Param("category") String category
+    );
+
+    /**
+     * 삭제되지 않은 모든 프로그램 카드 조회 (최신순)
+     */
+    @Query(CARD_SELECT + "FROM Program p WHERE p.deletedAt IS NULL ORDER BY p.createdAt DESC")
+    List<ProgramCardResponse> findAllCards();
+
+    /**
+     * 복합 필터 카드 조회 with 페이지네이션 (OFFSET, COUNT 쿼리 없이 다음 페이지 여부만 확인)
+     */
+    @Query(CARD_SELECT + "FROM Program p WHERE " +
            "(:department IS NULL OR p.department = :department) AND " +
            "(:college IS NULL OR p.college = :college) AND " +
            "(:category IS NULL OR p.category = :category) AND " +
            "p.deletedAt IS NULL")
-    Page<Program> findByFiltersWithPagination(
+    Slice<ProgramCardResponse> findCardsByFilters(
         @Param("department") String department,
         @Param("college") String college,
         @Param("category") String category,
@@ -108,21 +152,156 @@ public interface ProgramRepository extends JpaRepository<Program, Integer> {
     );
 
     /**
-     * 제목 검색 with 페이지네이션
+     * 복합 필터 카드 조회 (keyset 페이지네이션)
+     * - (createdAt, programId)가 커서보다 작은 행부터 조회하므로 깊은 페이지도 OFFSET 스캔이 없음
+     * - 조회 건수는 Pageable로 지정 (다음 페이지 확인을 위해 1건 더 조회)
+     */
+    @Query(CARD_SELECT + "FROM Program p WHERE " +
+           "(:department IS NULL OR p.department = :department) AND " +
+           "(:college IS NULL OR p.college = :college) AND " +
+           "(:category IS NULL OR p.category = :category) AND " +
+           "p.deletedAt IS NULL AND " +
+           "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.programId < :programId)) " +
+           "ORDER BY p.createdAt DESC, p.programId DESC")
+    List<ProgramCardResponse> findCardsByFiltersAfter(
+        @Param("department") String department,
+        @Param("college") String college,
+        @Param("category") String category,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("programId") Integer programId,
+        Pageable pageable
+    );
+
+    /**
+     * 복합 필터 프로그램 수
+     */
+    @Query("SELECT COUNT(p) FROM Program p WHERE " +
+           "(:department IS NULL OR p.department = :department) AND " +
+           "(:college IS NULL OR p.college = :college) AND " +
+           "(:category IS NULL OR p.category = :category) AND " +
+           "p.deletedAt IS NULL")
+    long countByFilters(
+        @Param("department") String department,
+        @Param("college") String college,
+        @Param("category") String category
+    );
+
+    /**
+     * 키워드 검색 카드 조회 with 페이지네이션 (FULLTEXT 인덱스를 사용할 수 없을 때의 LIKE 검색)
+     * - 제목 일치를 우선하고, 그다음 최신순
+     */
+    @Query(value = CARD_SELECT + "FROM Program p WHERE p.deletedAt IS NULL AND (" +
+                   "p.title LIKE %:keyword% OR p.description LIKE %:keyword% OR " +
+                   "p.category LIKE %:keyword% OR p.department LIKE %:keyword%) " +
+                   "ORDER BY CASE WHEN p.title LIKE %:keyword% THEN 0 ELSE 1 END, p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Program p WHERE p.deletedAt IS NULL AND (" +
+                        "p.title LIKE %:keyword% OR p.description LIKE %:keyword% OR " +
+                        "p.category LIKE %:keyword% OR p.department LIKE %:keyword%)")
+    Page<ProgramCardResponse> searchCards(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 좌석 1개 원자적 예약 (신청 가능 상태이고 예약 후에도 정원이 남는 경우에만 참가자 수 증가)
+     * - 마지막 좌석은 reserveLastSeat로 예약하여 정원 마감(FULL) 전환을 호출자가 알 수 있도록 함
+     *
+     * @return 갱신된 행 수 (1: 예약 성공, 0: 마지막 좌석, 정원 마감 또는 신청 불가)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE programs SET " +
+                   "current_participants = current_participants + 1, " +
+                   "updated_at = :now " +
+                   "WHERE program_id = :programId " +
+                   "AND deleted_at IS NULL " +
+                   "AND status = 'OPEN' " +
+                   "AND application_start_date < :now " +
+                   "AND application_end_date > :now " +
+                   "AND (max_participants IS NULL OR current_participants + 1 < max_participants)",
+           nativeQuery = true)
+    int reserveSeat(@Param("programId") Integer programId, @Param("now") LocalDateTime now);
+
+    /**
+     * 마지막 좌석 원자적 예약 (참가자 수 증가와 함께 상태를 FULL로 변경)
+     *
+     * @return 갱신된 행 수 (1: 예약 성공 및 정원 마감, 0: 마지막 좌석이 아니거나 신청 불가)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE programs SET " +
+                   "status = 'FULL', " +
+                   "current_participants = current_participants + 1, " +
+                   "updated_at = :now " +
+                   "WHERE program_id = :programId " +
+                   "AND deleted_at IS NULL " +
+                   "AND status = 'OPEN' " +
+                   "AND application_start_date < :now " +
+                   "AND application_end_date > :now " +
+                   "AND max_participants IS NOT NULL " +
+                   "AND current_participants + 1 = max_participants",
+           nativeQuery = true)
+    int reserveLastSeat(@Param("programId") Integer programId, @Param("now") LocalDateTime now);
+
+    /**
+     * 좌석 원자적 반환 (정원 마감 상태가 아닌 프로그램, 참가자 수만 감소)
+     *
+     * @return 갱신된 행 수 (0이면 정원 마감 상태이거나 참가자가 없음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE programs SET " +
+                   "current_participants = GREATEST(current_participants - :count, 0), " +
+                   "updated_at = :now " +
+                   "WHERE program_id = :programId " +
+                   "AND status <> 'FULL' " +
+                   "AND current_participants > 0",
+           nativeQuery = true)
+    int releaseSeats(@Param("programId") Integer programId,
+                     @Param("count") int count,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 정원 마감 프로그램의 좌석 원자적 반환 (정원에 여유가 생기면 FULL → OPEN)
+     *
+     * @return 갱신된 행 수
      */
-    @Query("SELECT p FROM Program p WHERE p.title LIKE %:keyword% AND p.deletedAt IS NULL")
-    Page<Program> searchByTitleWithPagination(@Param("keyword") String keyword, Pageable pageable);
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE programs SET " +
+                   "status = CASE WHEN max_participants IS NULL " +
+                   "OR current_participants - :count < max_participants THEN 'OPEN' ELSE status END, " +
+                   "current_participants = GREATEST(current_participants - :count, 0), " +
+                   "updated_at = :now " +
+                   "WHERE program_id = :programId " +
+                   "AND status = 'FULL' " +
+                   "AND current_participants > 0",
+           nativeQuery = true)
+    int reopenSeats(@Param("programId") Integer programId,
+                    @Param("count") int count,
+                    @Param("now") LocalDateTime now);
 
     /**
-     * 전체 프로그램 조회 with 페이지네이션
+     * 이미 확보된 좌석 수만큼 참가자 수 증가 (고수요 모드 일괄 저장용, 반영 후에도 정원이 남는 경우)
+     * - 좌석은 메모리 카운터에서 확보되었으므로 정원 조건 없이 반영하며, 정원이 차는 경우는 fillParticipants로 처리
      */
-    @Query("SELECT p FROM Program p WHERE p.deletedAt IS NULL")
-    Page<Program> findAllNotDeletedWithPagination(Pageable pageable);
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE programs SET " +
+                   "current_participants = current_participants + :count, " +
+                   "updated_at = :now " +
+                   "WHERE program_id = :programId " +
+                   "AND (max_participants IS NULL OR current_participants + :count < max_participants)",
+           nativeQuery = true)
+    int addParticipants(@Param("programId") Integer programId,
+                        @Param("count") int count,
+                        @Param("now") LocalDateTime now);
 
     /**
-     * 메인 페이지용 최신 프로그램 조회 (상위 8개, 삭제되지 않은 것만)
+     * 이미 확보된 좌석 수만큼 참가자 수 증가 후 정원 마감(FULL)으로 변경
      */
-    @Query(value = "SELECT p FROM Program p WHERE p.deletedAt IS NULL ORDER BY p.createdAt DESC",
-           nativeQuery = false)
-    List<Program> findTop8NotDeleted();
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE programs SET " +
+                   "status = 'FULL', " +
+                   "current_participants = current_participants + :count, " +
+                   "updated_at = :now " +
+                   "WHERE program_id = :programId " +
+                   "AND max_participants IS NOT NULL " +
+                   "AND current_participants + :count >= max_participants",
+           nativeQuery = true)
+    int fillParticipants(@Param("programId") Integer programId,
+                         @Param("count") int count,
+                         @Param("now") LocalDateTime now);
 }
@@ -1,8 +1,8 @@
 package com.scms.app.repository;
 
 import com.scms.app.model.User;
-import com.scms.app.model.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -39,10 +39,13 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByEmailAndNotDeleted(@Param("email") String email);
 
     /**
-     * 역할로 사용자 목록 조회 (삭제되지 않은 사용자만)
+     * 로그인 실패가 한도에 도달한 계정 잠금 (이미 잠긴 계정은 변경하지 않음)
+     * - 실패 횟수는 LoginRateLimiter가 메모리에서 집계하고, 잠금으로 전환될 때만 한 번 저장
      */
-    @Query("SELECT u FROM User u WHERE u.role = :role AND u.deletedAt IS NULL")
-    List<User> findByRoleAndNotDeleted(@Param("role") UserRole role);
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.locked = true, u.failCnt = :failCount " +
+           "WHERE u.userId = :userId AND u.locked = false")
+    int lockAfterFailures(@Param("userId") Integer userId, @Param("failCount") int failCount);
 
     /**
      * 학번 중복 확인
@@ -54,12 +57,6 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      */
     boolean existsByEmail(String email);
 
-    /**
-     * 삭제되지 않은 모든 사용자 조회
-     */
-    @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL ORDER BY u.createdAt DESC")
-    List<User> findAllNotDeleted();
-
     /**
      * 이름으로 사용자 검색 (삭제되지 않은 사용자만)
      */
@@ -0,0 +1,238 @@
+package com.scms.app.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scms.app.dto.ApplicationExportFilter;
+import com.scms.app.dto.ApplicationExportRow;
+import com.scms.app.model.ApplicationStatus;
+import com.scms.app.util.CsvUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 신청자 목록 CSV / NDJSON 내보내기 Service
+ *
+ * 내보내기 전용 fetch size(scms.export.fetch-size)로 스트리밍 조회한 행을 바로 출력 스트림에 기록하므로
+ * 전체 행 수와 관계없이 메모리 사용량이 일정하다. 엔티티나 POI 객체를 만들지 않는다.
+ * 내보내기 조건 → SQL 변환은 이 클래스에만 있으며, Excel 내보내기도 {@link #forEachRow}로 같은 조회를 사용한다.
+ */
+@Service
+@Slf4j
+public class ApplicationExportService {
+
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String[] COLUMNS = {
+            "application_id", "program_id", "program_title", "student_num", "name", "phone", "email",
+            "department", "grade", "status", "applied_at", "approved_at", "completed_at",
+            "rejected_at", "cancelled_at", "rejection_reason"
+    };
+
+    private static final int STATUS_COLUMN = 9;
+
+    // 수식 무력화 대상: 사용자가 자유롭게 입력하는 텍스트 (ID, 학번, 날짜, 전화번호는 값이 바뀌지 않도록 그대로 기록)
+    private static final Set<String> FREE_TEXT_COLUMNS = Set.of("program_title", "name", "department", "rejection_reason");
+
+    private static final String[] CSV_HEADERS = {
+            "신청 ID", "프로그램 ID", "프로그램명", "학번", "이름", "전화번호", "이메일",
+            "학과", "학년", "상태", "신청일", "승인일", "완료일", "거부일", "취소일", "거부 사유"
+    };
+
+    private static final String EXPORT_SQL =
+            "SELECT pa.application_id, pa.program_id, p.title AS program_title, u.student_num, u.name, " +
+            "u.phone, u.email, u.department, u.grade, pa.status, pa.applied_at, pa.approved_at, " +
+            "pa.completed_at, pa.rejected_at, pa.cancelled_at, pa.rejection_reason " +
+            "FROM program_applications pa " +
+            "JOIN users u ON u.user_id = pa.user_id " +
+            "JOIN programs p ON p.program_id = pa.program_id " +
+            "WHERE pa.deleted_at IS NULL AND p.deleted_at IS NULL ";
+
+    private static final String ORDER_BY = "ORDER BY pa.program_id, pa.applied_at DESC";
+
+    private final NamedParameterJdbcTemplate exportJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ApplicationExportService(DataSource dataSource, ObjectMapper objectMapper,
+                                    @Value("${scms.export.fetch-size:500}") int fetchSize) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        this.exportJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * CSV 내보내기 (UTF-8 BOM 포함, Excel에서 바로 열 수 있음)
+     * - 상태는 Excel 내보내기와 같은 한글 표시로, 자유 입력 텍스트 중 수식으로 해석될 수 있는 값은 작은따옴표를 붙여 기록
+     *
+     * @param filter 대상 프로그램 조건
+     * @return 기록한 행 수
+     */
+    public long writeCsv(ApplicationExportFilter filter, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(UTF8_BOM);
+        CsvUtils.writeLine(writer, CSV_HEADERS);
+
+        long count = query(filter, rs -> {
+            String[] fields = new String[COLUMNS.length];
+            for (int i = 0; i < COLUMNS.length; i++) {
+                String text = readText(rs, i + 1);
+                fields[i] = FREE_TEXT_COLUMNS.contains(COLUMNS[i]) ? CsvUtils.neutralizeFormula(text) : text;
+            }
+            fields[STATUS_COLUMN] = ExcelService.getStatusText(ApplicationStatus.valueOf(fields[STATUS_COLUMN]));
+            try {
+                CsvUtils.writeLine(writer, fields);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        writer.flush();
+        log.info("신청자 CSV 내보내기 완료: 프로그램 {}, {}행", filter.describe(), count);
+        return count;
+    }
+
+    /**
+     * NDJSON 내보내기 (한 줄에 신청 하나의 JSON 객체)
+     *
+     * @param filter 대상 프로그램 조건
+     * @return 기록한 행 수
+     */
+    public long writeNdjson(ApplicationExportFilter filter, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long count = query(filter, rs -> {
+            try {
+                generator.writeStartObject();
+                for (int i = 0; i < COLUMNS.length; i++) {
+                    Object value = rs.getObject(i + 1);
+                    if (value == null) {
+                        generator.writeNullField(COLUMNS[i]);
+                    } else if (value instanceof Number number) {
+                        generator.writeNumberField(COLUMNS[i], number.longValue());
+                    } else {
+                        generator.writeStringField(COLUMNS[i], readText(rs, i + 1));
+                    }
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        generator.flush();
+        writer.flush();
+        log.info("신청자 NDJSON 내보내기 완료: 프로그램 {}, {}행", filter.describe(), count);
+        return count;
+    }
+
+    /**
+     * 조건에 맞는 신청자 행을 프로그램 ID 순, 프로그램 내 최신순으로 전달 (Excel 내보내기용)
+     *
+     * @param filter 대상 프로그램 조건
+     * @return 전달한 행 수
+     */
+    public long forEachRow(ApplicationExportFilter filter, Consumer<ApplicationExportRow> consumer) throws IOException {
+        return query(filter, rs -> consumer.accept(new ApplicationExportRow(
+                rs.getInt("program_id"),
+                rs.getString("program_title"),
+                rs.getInt("application_id"),
+                rs.getObject("student_num", Integer.class),
+                rs.getString("name"),
+                rs.getString("phone"),
+                rs.getString("email"),
+                rs.getString("department"),
+                rs.getObject("grade", Integer.class),
+                ApplicationStatus.valueOf(rs.getString("status")),
+                toLocalDateTime(rs.getTimestamp("applied_at")),
+                toLocalDateTime(rs.getTimestamp("approved_at")),
+                toLocalDateTime(rs.getTimestamp("completed_at")),
+                toLocalDateTime(rs.getTimestamp("rejected_at")),
+                toLocalDateTime(rs.getTimestamp("cancelled_at")),
+                rs.getString("rejection_reason"))));
+    }
+
+    private long query(ApplicationExportFilter filter, RowCallbackHandler handler) throws IOException {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder sql = new StringBuilder(EXPORT_SQL);
+        if (filter.hasProgramIds()) {
+            sql.append("AND pa.program_id IN (:programIds) ");
+            params.addValue("programIds", filter.getProgramIds());
+        }
+        if (filter.getDepartment() != null) {
+            sql.append("AND p.department = :department ");
+            params.addValue("department", filter.getDepartment());
+        }
+        if (filter.getCollege() != null) {
+            sql.append("AND p.college = :college ");
+            params.addValue("college", filter.getCollege());
+        }
+        if (filter.getCategory() != null) {
+            sql.append("AND p.category = :category ");
+            params.addValue("category", filter.getCategory());
+        }
+        if (filter.getFrom() != null) {
+            sql.append("AND p.application_start_date >= :startFrom ");
+            params.addValue("startFrom", Timestamp.valueOf(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            sql.append("AND p.application_start_date < :startTo ");
+            params.addValue("startTo", Timestamp.valueOf(filter.getTo()));
+        }
+        sql.append(ORDER_BY);
+
+        long[] count = {0};
+        try {
+            exportJdbcTemplate.query(sql.toString(), params, rs -> {
+                handler.processRow(rs);
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 출력 오류
+            throw e.getCause();
+        }
+        return count[0];
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private String readText(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().format(DATE_FORMATTER);
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.format(DATE_FORMATTER);
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,601 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.ApplicationTicket;
+import com.scms.app.model.Program;
+import com.scms.app.model.ProgramStatus;
+import com.scms.app.repository.ProgramRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 비동기 프로그램 신청 파이프라인
+ *
+ * 신청 요청은 캐시된 프로그램 정보로만 검증한 뒤 대기열에 넣고 접수 티켓을 즉시 반환한다.
+ * 백그라운드 저장기는 대기열을 프로그램 단위로 묶어 한 트랜잭션에서
+ * 프로그램 행 잠금 → 중복 신청 일괄 조회 → JDBC 배치 INSERT → 참가자 수 합산 반영을 수행하므로,
+ * 신청 처리량이 행 단위 커밋 지연에 묶이지 않는다.
+ *
+ * 고수요 모드 프로그램은 항상 이 파이프라인을 사용하며(메모리 좌석 카운터로 선착순 판정),
+ * scms.application.pipeline.enabled=true 이면 모든 프로그램 신청이 파이프라인을 거친다.
+ *
+ * 접수 티켓은 application_tickets 테이블에 저장하므로 어느 인스턴스에서든 조회할 수 있다.
+ * 대기열과 접수 중 중복 확인(pendingKeys)은 인스턴스 메모리에 있지만, 다른 인스턴스로 들어온 중복 신청은
+ * 저장 시 프로그램 행 잠금 아래의 중복 신청 조회에서 걸러진다.
+ * 저장 시점에 없거나 삭제된 사용자의 신청은 개별 거절하며, 묶음 저장이 실패하면 신청별로 다시 저장하여
+ * 한 건의 오류로 같은 묶음의 다른 신청이 유실되지 않도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationPipeline {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO program_applications (program_id, user_id, status, applied_at, created_at, updated_at) " +
+            "VALUES (?, ?, 'PENDING', ?, ?, ?)";
+
+    private static final String LOCK_PROGRAM_SQL =
+            "SELECT status, max_participants, current_participants, " +
+            "application_start_date, application_end_date, deleted_at " +
+            "FROM programs WHERE program_id = ? FOR UPDATE";
+
+    private static final String EXISTING_USERS_SQL =
+            "SELECT user_id FROM users WHERE user_id IN (:userIds) AND deleted_at IS NULL";
+
+    private static final String INSERT_TICKET_SQL =
+            "INSERT INTO application_tickets (ticket_id, user_id, program_id, status, message, received_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_TICKET_SQL =
+            "UPDATE application_tickets SET status = ?, application_id = ?, message = ?, processed_at = ? " +
+            "WHERE ticket_id = ?";
+
+    private static final String SELECT_TICKET_SQL =
+            "SELECT ticket_id, user_id, program_id, status, application_id, message, received_at, processed_at " +
+            "FROM application_tickets WHERE ticket_id = ? AND user_id = ?";
+
+    private static final String ACTIVE_APPLICANTS_SQL =
+            "SELECT user_id FROM program_applications " +
+            "WHERE program_id = :programId AND user_id IN (:userIds) " +
+            "AND status IN ('PENDING', 'APPROVED', 'COMPLETED') AND deleted_at IS NULL";
+
+    private static final int SEED_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProgramRepository programRepository;
+    private final SeatReservationService seatReservationService;
+    private final HighDemandSeatCounter highDemandSeatCounter;
+    private final UserSnapshotService userSnapshotService;
+
+    @Value("${scms.application.pipeline.enabled:false}")
+    private boolean enabled;
+
+    @Value("${scms.application.pipeline.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${scms.application.pipeline.batch-size:200}")
+    private int batchSize;
+
+    @Value("${scms.application.pipeline.snapshot-ttl-ms:5000}")
+    private long snapshotTtlMs;
+
+    @Value("${scms.application.pipeline.ticket-ttl-ms:600000}")
+    private long ticketTtlMs;
+
+    private BlockingQueue<PendingApplication> queue;
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, AtomicInteger> pendingCounts = new ConcurrentHashMap<>();
+    private final Map<Integer, WriteState> writeStates = new ConcurrentHashMap<>();
+    private final Map<Integer, ProgramSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 저장 대기 신청
+     */
+    private record PendingApplication(String ticketId, Integer userId, Integer programId,
+                                      boolean seatAcquired, LocalDateTime appliedAt) {
+    }
+
+    /**
+     * 신청 검증용 프로그램 정보 (짧은 TTL로 캐시)
+     */
+    private record ProgramSnapshot(Integer programId, ProgramStatus status, boolean highDemand,
+                                   LocalDateTime applicationStartDate, LocalDateTime applicationEndDate,
+                                   long loadedAt) {
+
+        boolean isApplicationPeriod(LocalDateTime now) {
+            return status == ProgramStatus.OPEN
+                    && now.isAfter(applicationStartDate)
+                    && now.isBefore(applicationEndDate);
+        }
+    }
+
+    /**
+     * 저장 시점에 잠근 프로그램 행
+     */
+    private record LockedProgram(String status, Integer maxParticipants, int currentParticipants,
+                                 LocalDateTime applicationStartDate, LocalDateTime applicationEndDate,
+                                 boolean deleted) {
+    }
+
+    /**
+     * 프로그램별 저장 진행 상태 (보정기가 집계 중 저장이 겹쳤는지 확인하는 용도)
+     * - writing: 트랜잭션 시작부터 대기 수 차감까지 진행 중인 저장 수
+     * - completed: 끝난 저장 수 (집계 전후 값이 다르면 그 사이에 저장이 있었음)
+     */
+    private static final class WriteState {
+        private final AtomicInteger writing = new AtomicInteger();
+        private final AtomicLong completed = new AtomicLong();
+    }
+
+    /**
+     * 처리 결과
+     */
+    private record Outcome(PendingApplication application, ApplicationTicket.Status status,
+                           Integer applicationId, String message) {
+    }
+
+    /**
+     * 파이프라인으로 처리할 신청인지 확인
+     */
+    public boolean handles(Integer programId) {
+        return enabled || getSnapshot(programId).highDemand();
+    }
+
+    /**
+     * 신청 접수
+     *
+     * @return 접수 티켓 (처리 결과는 getTicket으로 조회)
+     */
+    public ApplicationTicket submit(Integer userId, Integer programId) {
+        // 고수요 프로그램의 잔여 좌석이 없으면 DB 조회 없이 즉시 실패
+        if (highDemandSeatCounter.isSoldOut(programId)) {
+            throw new IllegalStateException("프로그램 정원이 마감되었습니다.");
+        }
+
+        ProgramSnapshot program = getSnapshot(programId);
+        if (!program.isApplicationPeriod(LocalDateTime.now())) {
+            throw new IllegalStateException("현재 신청할 수 없는 프로그램입니다.");
+        }
+
+        // 사용자 확인 (스냅샷 캐시, 삭제된 사용자는 접수하지 않음)
+        if (userSnapshotService.getSnapshot(userId) == null) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: ID " + userId);
+        }
+
+        String key = pendingKey(userId, programId);
+        if (!pendingKeys.add(key)) {
+            throw new IllegalStateException("이미 신청한 프로그램입니다.");
+        }
+
+        boolean seatAcquired = false;
+        if (program.highDemand()) {
+            seedSeatCounter(programId);
+            if (!highDemandSeatCounter.tryAcquire(programId)) {
+                pendingKeys.remove(key);
+                throw new IllegalStateException("프로그램 정원이 마감되었습니다.");
+            }
+            seatAcquired = true;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        ApplicationTicket ticket = ApplicationTicket.builder()
+                .ticketId(UUID.randomUUID().toString())
+                .userId(userId)
+                .programId(programId)
+                .status(ApplicationTicket.Status.RECEIVED)
+                .statusDescription(ApplicationTicket.Status.RECEIVED.getDescription())
+                .message("신청이 접수되었습니다.")
+                .receivedAt(now)
+                .build();
+        try {
+            insertTicket(ticket);
+        } catch (RuntimeException e) {
+            pendingKeys.remove(key);
+            if (seatAcquired) {
+                highDemandSeatCounter.release(programId, 1);
+            }
+            throw e;
+        }
+
+        if (!queue.offer(new PendingApplication(ticket.getTicketId(), userId, programId, seatAcquired, now))) {
+            jdbcTemplate.update("DELETE FROM application_tickets WHERE ticket_id = ?", ticket.getTicketId());
+            pendingKeys.remove(key);
+            if (seatAcquired) {
+                highDemandSeatCounter.release(programId, 1);
+            }
+            log.warn("신청 대기열 포화: 사용자 {}, 프로그램 {}", userId, programId);
+            throw new IllegalStateException("신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        pendingCounts.computeIfAbsent(programId, id -> new AtomicInteger()).incrementAndGet();
+
+        log.debug("신청 접수: 사용자 {}, 프로그램 {}, 티켓 {}", userId, programId, ticket.getTicketId());
+        return ticket;
+    }
+
+    /**
+     * 접수 티켓 조회 (본인 티켓만)
+     */
+    public ApplicationTicket getTicket(String ticketId, Integer userId) {
+        List<ApplicationTicket> found = jdbcTemplate.query(SELECT_TICKET_SQL, (rs, rowNum) -> {
+            ApplicationTicket.Status status = ApplicationTicket.Status.valueOf(rs.getString("status"));
+            Timestamp processedAt = rs.getTimestamp("processed_at");
+            return ApplicationTicket.builder()
+                    .ticketId(rs.getString("ticket_id"))
+                    .userId(rs.getInt("user_id"))
+                    .programId(rs.getInt("program_id"))
+                    .status(status)
+                    .statusDescription(status.getDescription())
+                    .applicationId(rs.getObject("application_id", Integer.class))
+                    .message(rs.getString("message"))
+                    .receivedAt(rs.getTimestamp("received_at").toLocalDateTime())
+                    .processedAt(processedAt != null ? processedAt.toLocalDateTime() : null)
+                    .build();
+        }, ticketId, userId);
+        if (found.isEmpty()) {
+            throw new IllegalArgumentException("접수 내역을 찾을 수 없습니다: " + ticketId);
+        }
+        return found.get(0);
+    }
+
+    /**
+     * 프로그램의 저장 대기 신청 수
+     */
+    public int getPendingCount(Integer programId) {
+        AtomicInteger count = pendingCounts.get(programId);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * 프로그램의 저장 버전 (저장이 진행 중이면 -1)
+     * - 커밋 직후부터 대기 수 차감 전까지는 같은 신청이 활성 신청 수와 대기 수에 모두 잡히므로,
+     *   보정기는 집계 전후의 버전이 같고 -1이 아닐 때만 두 값을 함께 사용해야 함
+     */
+    public long getWriteVersion(Integer programId) {
+        WriteState state = writeStates.get(programId);
+        if (state == null) {
+            return 0;
+        }
+        long completed = state.completed.get();
+        return state.writing.get() > 0 ? -1 : completed;
+    }
+
+    /**
+     * 대기 중인 신청을 프로그램 단위로 일괄 저장
+     */
+    @Scheduled(fixedDelayString = "${scms.application.pipeline.flush-interval-ms:200}")
+    public void flush() {
+        while (!queue.isEmpty()) {
+            List<PendingApplication> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            // program_id 순으로 처리하여 행 잠금 순서를 일정하게 유지
+            batch.stream()
+                    .collect(Collectors.groupingBy(PendingApplication::programId, TreeMap::new, Collectors.toList()))
+                    .forEach(this::persist);
+        }
+    }
+
+    private void persist(Integer programId, List<PendingApplication> applications) {
+        WriteState writeState = writeStates.computeIfAbsent(programId, id -> new WriteState());
+        writeState.writing.incrementAndGet();
+        try {
+            persistBatch(programId, applications);
+        } finally {
+            // 완료 수를 먼저 올려 writing이 0이 되는 순간 버전이 이미 바뀌어 있도록 함
+            writeState.completed.incrementAndGet();
+            writeState.writing.decrementAndGet();
+        }
+    }
+
+    private void persistBatch(Integer programId, List<PendingApplication> applications) {
+        List<Outcome> outcomes;
+        try {
+            outcomes = transactionTemplate.execute(status -> write(programId, applications));
+        } catch (Exception e) {
+            log.error("신청 일괄 저장 실패, 신청별로 다시 저장합니다: 프로그램 {}, {}건",
+                    programId, applications.size(), e);
+            outcomes = writeEach(programId, applications);
+        }
+
+        int accepted = 0;
+        for (Outcome outcome : outcomes) {
+            PendingApplication application = outcome.application();
+            if (outcome.status() == ApplicationTicket.Status.COMPLETED) {
+                accepted++;
+            } else if (application.seatAcquired()) {
+                highDemandSeatCounter.release(programId, 1);
+            }
+            pendingKeys.remove(pendingKey(application.userId(), programId));
+        }
+        updateTickets(outcomes);
+        pendingCounts.computeIfPresent(programId, (id, pending) -> {
+            pending.addAndGet(-applications.size());
+            return pending;
+        });
+
+        log.info("신청 일괄 처리 완료: 프로그램 {}, 접수 {}건, 저장 {}건", programId, applications.size(), accepted);
+    }
+
+    /**
+     * 신청별 개별 저장 (묶음 저장 실패 시, 실패한 신청만 FAILED로 처리)
+     */
+    private List<Outcome> writeEach(Integer programId, List<PendingApplication> applications) {
+        List<Outcome> outcomes = new ArrayList<>(applications.size());
+        for (PendingApplication application : applications) {
+            try {
+                outcomes.addAll(transactionTemplate.execute(status -> write(programId, List.of(application))));
+            } catch (Exception e) {
+                log.error("신청 저장 실패: 프로그램 {}, 사용자 {}", programId, application.userId(), e);
+                outcomes.add(new Outcome(application, ApplicationTicket.Status.FAILED, null,
+                        "신청 처리 중 오류가 발생했습니다. 다시 시도해주세요."));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * 한 프로그램의 신청 묶음 저장 (트랜잭션 내부)
+     */
+    private List<Outcome> write(Integer programId, List<PendingApplication> applications) {
+        List<Outcome> outcomes = new ArrayList<>();
+        LockedProgram program = lockProgram(programId);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (program == null || program.deleted()) {
+            applications.forEach(a -> outcomes.add(rejected(a, "프로그램을 찾을 수 없습니다.")));
+            return outcomes;
+        }
+        if (!ProgramStatus.OPEN.name().equals(program.status())
+                || !now.isAfter(program.applicationStartDate())
+                || !now.isBefore(program.applicationEndDate())) {
+            applications.forEach(a -> outcomes.add(rejected(a, "현재 신청할 수 없는 프로그램입니다.")));
+            return outcomes;
+        }
+
+        Set<Integer> existingUsers = findExistingUsers(applications);
+        Set<Integer> activeApplicants = findActiveApplicants(programId, applications);
+        int availableSeats = program.maxParticipants() == null
+                ? Integer.MAX_VALUE
+                : Math.max(program.maxParticipants() - program.currentParticipants(), 0);
+
+        List<PendingApplication> accepted = new ArrayList<>();
+        Set<Integer> acceptedUsers = new HashSet<>();
+        for (PendingApplication application : applications) {
+            if (!existingUsers.contains(application.userId())) {
+                outcomes.add(rejected(application, "사용자를 찾을 수 없습니다."));
+            } else if (activeApplicants.contains(application.userId())
+                    || !acceptedUsers.add(application.userId())) {
+                outcomes.add(rejected(application, "이미 신청한 프로그램입니다."));
+            } else if (accepted.size() >= availableSeats) {
+                acceptedUsers.remove(application.userId());
+                outcomes.add(rejected(application, "프로그램 정원이 마감되었습니다."));
+            } else {
+                accepted.add(application);
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return outcomes;
+        }
+
+        List<Integer> applicationIds = insertBatch(programId, accepted);
+        seatReservationService.confirmReserved(programId, accepted.size());
+
+        for (int i = 0; i < accepted.size(); i++) {
+            Integer applicationId = i < applicationIds.size() ? applicationIds.get(i) : null;
+            outcomes.add(new Outcome(accepted.get(i), ApplicationTicket.Status.COMPLETED, applicationId,
+                    "프로그램 신청이 완료되었습니다."));
+        }
+        return outcomes;
+    }
+
+    private LockedProgram lockProgram(Integer programId) {
+        return jdbcTemplate.query(LOCK_PROGRAM_SQL, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            return new LockedProgram(
+                    rs.getString("status"),
+                    rs.getObject("max_participants", Integer.class),
+                    rs.getInt("current_participants"),
+                    rs.getTimestamp("application_start_date").toLocalDateTime(),
+                    rs.getTimestamp("application_end_date").toLocalDateTime(),
+                    rs.getTimestamp("deleted_at") != null);
+        }, programId);
+    }
+
+    private Set<Integer> findExistingUsers(List<PendingApplication> applications) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", applications.stream()
+                        .map(PendingApplication::userId)
+                        .distinct()
+                        .collect(Collectors.toList()));
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(EXISTING_USERS_SQL, params, Integer.class));
+    }
+
+    private Set<Integer> findActiveApplicants(Integer programId, List<PendingApplication> applications) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("programId", programId)
+                .addValue("userIds", applications.stream()
+                        .map(PendingApplication::userId)
+                        .distinct()
+                        .collect(Collectors.toList()));
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(ACTIVE_APPLICANTS_SQL, params, Integer.class));
+    }
+
+    /**
+     * JDBC 배치 INSERT (생성된 신청 ID를 입력 순서대로 반환)
+     */
+    private List<Integer> insertBatch(Integer programId, List<PendingApplication> applications) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Integer>>) connection -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (PendingApplication application : applications) {
+                    ps.setInt(1, programId);
+                    ps.setInt(2, application.userId());
+                    ps.setTimestamp(3, Timestamp.valueOf(application.appliedAt()));
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Integer> ids = new ArrayList<>(applications.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getInt(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    private void insertTicket(ApplicationTicket ticket) {
+        jdbcTemplate.update(INSERT_TICKET_SQL,
+                ticket.getTicketId(),
+                ticket.getUserId(),
+                ticket.getProgramId(),
+                ticket.getStatus().name(),
+                ticket.getMessage(),
+                Timestamp.valueOf(ticket.getReceivedAt()));
+    }
+
+    /**
+     * 처리 결과를 티켓에 일괄 반영 (실패해도 저장된 신청은 유지, 티켓은 정리 시 FAILED 처리됨)
+     */
+    private void updateTickets(List<Outcome> outcomes) {
+        Timestamp processedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = outcomes.stream()
+                .map(outcome -> new Object[]{
+                        outcome.status().name(),
+                        outcome.applicationId(),
+                        outcome.message(),
+                        processedAt,
+                        outcome.application().ticketId()})
+                .collect(Collectors.toList());
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_TICKET_SQL, batchArgs);
+        } catch (DataAccessException e) {
+            log.error("접수 티켓 갱신 실패: {}건", batchArgs.size(), e);
+        }
+    }
+
+    private Outcome rejected(PendingApplication application, String message) {
+        return new Outcome(application, ApplicationTicket.Status.REJECTED, null, message);
+    }
+
+    /**
+     * 고수요 좌석 카운터 초기화 (최신 DB 값 기준)
+     */
+    private void seedSeatCounter(Integer programId) {
+        if (highDemandSeatCounter.getRemainingSeats(programId) != null) {
+            return;
+        }
+        // 저장과 겹치면 참가자 수와 대기 수에 같은 신청이 모두 잡히므로 몇 번 다시 읽고, 그래도 겹치면 보정기에 맡김
+        for (int attempt = 1; ; attempt++) {
+            long writeVersion = getWriteVersion(programId);
+            Program program = programRepository.findByIdNotDeleted(programId)
+                    .orElseThrow(() -> new IllegalArgumentException("프로그램을 찾을 수 없습니다: ID " + programId));
+            int pendingCount = getPendingCount(programId);
+            if ((writeVersion >= 0 && writeVersion == getWriteVersion(programId)) || attempt >= SEED_ATTEMPTS) {
+                highDemandSeatCounter.seedIfAbsent(program, pendingCount);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 프로그램 정보 조회 (TTL 캐시)
+     */
+    private ProgramSnapshot getSnapshot(Integer programId) {
+        ProgramSnapshot snapshot = snapshots.get(programId);
+        if (snapshot != null && System.currentTimeMillis() - snapshot.loadedAt() < snapshotTtlMs) {
+            return snapshot;
+        }
+        Program program = programRepository.findByIdNotDeleted(programId)
+                .orElseThrow(() -> new IllegalArgumentException("프로그램을 찾을 수 없습니다: ID " + programId));
+        snapshot = new ProgramSnapshot(program.getProgramId(), program.getStatus(), program.isHighDemandMode(),
+                program.getApplicationStartDate(), program.getApplicationEndDate(), System.currentTimeMillis());
+        snapshots.put(programId, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 만료된 티켓 및 프로그램 정보 정리
+     * - 보관 시간이 지나도록 접수 상태인 티켓(접수 인스턴스가 비정상 종료된 경우)은 처리 실패로 바꿈
+     * - 모든 인스턴스가 실행해도 결과가 같은 멱등 문장만 사용
+     */
+    @Scheduled(fixedDelayString = "${scms.application.pipeline.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        LocalDateTime ticketExpiry = LocalDateTime.now().minusNanos(ticketTtlMs * 1_000_000L);
+        try {
+            jdbcTemplate.update("DELETE FROM application_tickets WHERE processed_at < ?",
+                    Timestamp.valueOf(ticketExpiry));
+            jdbcTemplate.update("UPDATE application_tickets SET status = ?, message = ?, processed_at = ? " +
+                            "WHERE status = ? AND received_at < ?",
+                    ApplicationTicket.Status.FAILED.name(),
+                    "신청이 처리되지 않았습니다. 다시 시도해주세요.",
+                    Timestamp.valueOf(LocalDateTime.now()),
+                    ApplicationTicket.Status.RECEIVED.name(),
+                    Timestamp.valueOf(ticketExpiry));
+        } catch (DataAccessException e) {
+            log.warn("접수 티켓 정리 실패", e);
+        }
+        long now = System.currentTimeMillis();
+        snapshots.values().removeIf(snapshot -> now - snapshot.loadedAt() >= snapshotTtlMs);
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 신청 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!queue.isEmpty()) {
+            log.info("애플리케이션 종료: 대기 중인 신청 {}건을 저장합니다", queue.size());
+            flush();
+        }
+    }
+
+    private String pendingKey(Integer userId, Integer programId) {
+        return programId + ":" + userId;
+    }
+}
@@ -1,163 +1,238 @@
 package com.scms.app.service;
 
-import com.scms.app.model.ProgramApplication;
+import com.scms.app.dto.ApplicationExportFilter;
+import com.scms.app.dto.ApplicationExportRow;
+import com.scms.app.model.ApplicationStatus;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 /**
  * Excel 파일 생성 서비스
+ * - SXSSF로 일정 행 수만 메모리에 유지하고 나머지는 임시 파일로 내보내며, 결과는 출력 스트림에 바로 기록
+ * - 열 너비는 autoSizeColumn(전체 행 측정) 대신 고정 너비 사용
+ * - 신청 행은 CSV/NDJSON과 같은 조회(ApplicationExportService)로 읽음
  */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class ExcelService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
     /**
-     * 프로그램 신청 목록을 Excel 파일로 생성
+     * 메모리에 유지할 행 수 (초과분은 임시 파일로 flush)
      */
-    public ByteArrayInputStream generateApplicationsExcel(List<ProgramApplication> applications, String programTitle) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+    private static final int ROW_ACCESS_WINDOW = 200;
 
-            Sheet sheet = workbook.createSheet("신청 목록");
+    private static final String[] APPLICATION_COLUMNS = {
+            "신청 ID", "학번", "이름", "전화번호", "이메일",
+            "학과", "학년", "상태", "신청일", "승인일", "완료일", "거부일", "취소일", "거부 사유"
+    };
 
+    /**
+     * 열 너비 (문자 수, 한글은 2자로 계산)
+     */
+    private static final int[] APPLICATION_COLUMN_WIDTHS = {
+            10, 12, 12, 16, 28, 20, 8, 12, 18, 18, 18, 18, 18, 40
+    };
+
+    private static final String[] BULK_APPLICATION_COLUMNS = {
+            "프로그램 ID", "프로그램명", "신청 ID", "학번", "이름", "전화번호", "이메일",
+            "학과", "학년", "상태", "신청일", "승인일", "완료일", "거부일", "취소일", "거부 사유"
+    };
+
+    private static final int[] BULK_APPLICATION_COLUMN_WIDTHS = {
+            10, 30, 10, 12, 12, 16, 28, 20, 8, 12, 18, 18, 18, 18, 18, 40
+    };
+
+    private final ApplicationExportService applicationExportService;
+
+    /**
+     * 프로그램 신청 목록을 Excel 파일로 출력 스트림에 기록
+     *
+     * @return 기록한 신청 수
+     */
+    public int writeApplicationsExcel(Integer programId, String programTitle, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+
+        try {
             // 헤더 스타일
             CellStyle headerStyle = createHeaderStyle(workbook);
             CellStyle dataStyle = createDataStyle(workbook);
 
-            // 헤더 행 생성
-            Row headerRow = sheet.createRow(0);
-            String[] columns = {
-                    "신청 ID", "학번", "이름", "전화번호", "이메일",
-                    "학과", "학년", "상태", "신청일", "승인일", "완료일", "거부일", "취소일", "거부 사유"
-            };
-
-            for (int i = 0; i < columns.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(columns[i]);
-                cell.setCellStyle(headerStyle);
-            }
+            Sheet sheet = createSheet(workbook, "신청 목록", APPLICATION_COLUMNS, APPLICATION_COLUMN_WIDTHS, headerStyle);
 
             // 데이터 행 생성
-            int rowNum = 1;
-            for (ProgramApplication app : applications) {
-                Row row = sheet.createRow(rowNum++);
-
-                // 신청 ID
-                Cell cell0 = row.createCell(0);
-                cell0.setCellValue(app.getApplicationId());
-                cell0.setCellStyle(dataStyle);
-
-                // 학번
-                Cell cell1 = row.createCell(1);
-                if (app.getUser().getStudentNum() != null) {
-                    cell1.setCellValue(app.getUser().getStudentNum());
-                }
-                cell1.setCellStyle(dataStyle);
+            int[] rowNum = {1};
+            applicationExportService.forEachRow(ApplicationExportFilter.ofPrograms(List.of(programId)),
+                    app -> writeApplicationRow(sheet.createRow(rowNum[0]++), 0, app, dataStyle));
 
-                // 이름
-                Cell cell2 = row.createCell(2);
-                cell2.setCellValue(app.getUser().getName());
-                cell2.setCellStyle(dataStyle);
+            workbook.write(out);
+            out.flush();
 
-                // 전화번호
-                Cell cell3 = row.createCell(3);
-                if (app.getUser().getPhone() != null) {
-                    cell3.setCellValue(app.getUser().getPhone());
-                }
-                cell3.setCellStyle(dataStyle);
+            int count = rowNum[0] - 1;
+            log.info("Excel 파일 생성 완료: 프로그램={}, 신청 수={}", programTitle, count);
+            return count;
 
-                // 이메일
-                Cell cell4 = row.createCell(4);
-                cell4.setCellValue(app.getUser().getEmail());
-                cell4.setCellStyle(dataStyle);
+        } finally {
+            // SXSSF 임시 파일 삭제
+            workbook.dispose();
+            workbook.close();
+        }
+    }
 
-                // 학과
-                Cell cell5 = row.createCell(5);
-                if (app.getUser().getDepartment() != null) {
-                    cell5.setCellValue(app.getUser().getDepartment());
-                }
-                cell5.setCellStyle(dataStyle);
+    /**
+     * 여러 프로그램의 신청 목록을 하나의 Excel 파일로 출력 스트림에 기록
+     * - 프로그램 수와 관계없이 프로그램 ID 순으로 정렬된 한 번의 커서 조회로 읽음
+     *
+     * @param sheetPerProgram true면 프로그램마다 시트를 만들고, false면 프로그램 열을 앞에 붙인 한 시트에 기록
+     * @return 기록한 신청 수
+     */
+    public int writeBulkApplicationsExcel(ApplicationExportFilter filter, boolean sheetPerProgram,
+                                          OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
 
-                // 학년
-                Cell cell6 = row.createCell(6);
-                if (app.getUser().getGrade() != null) {
-                    cell6.setCellValue(app.getUser().getGrade());
-                }
-                cell6.setCellStyle(dataStyle);
+        try {
+            CellStyle headerStyle = createHeaderStyle(workbook);
+            CellStyle dataStyle = createDataStyle(workbook);
+            BulkSheetWriter writer = new BulkSheetWriter(workbook, sheetPerProgram, headerStyle, dataStyle);
 
-                // 상태
-                Cell cell7 = row.createCell(7);
-                cell7.setCellValue(getStatusText(app.getStatus().name()));
-                cell7.setCellStyle(dataStyle);
+            applicationExportService.forEachRow(filter, writer::write);
 
-                // 신청일
-                Cell cell8 = row.createCell(8);
-                if (app.getAppliedAt() != null) {
-                    cell8.setCellValue(app.getAppliedAt().format(DATE_FORMATTER));
-                }
-                cell8.setCellStyle(dataStyle);
+            // 대상 신청이 없어도 열 수 있는 파일이 되도록 빈 시트 생성
+            if (workbook.getNumberOfSheets() == 0) {
+                createSheet(workbook, "신청 목록", APPLICATION_COLUMNS, APPLICATION_COLUMN_WIDTHS, headerStyle);
+            }
 
-                // 승인일
-                Cell cell9 = row.createCell(9);
-                if (app.getApprovedAt() != null) {
-                    cell9.setCellValue(app.getApprovedAt().format(DATE_FORMATTER));
-                }
-                cell9.setCellStyle(dataStyle);
+            workbook.write(out);
+            out.flush();
 
-                // 완료일
-                Cell cell10 = row.createCell(10);
-                if (app.getCompletedAt() != null) {
-                    cell10.setCellValue(app.getCompletedAt().format(DATE_FORMATTER));
-                }
-                cell10.setCellStyle(dataStyle);
+            log.info("일괄 Excel 파일 생성 완료: 조건={}, 프로그램 수={}, 신청 수={}",
+                    filter.describe(), writer.programCount, writer.count);
+            return writer.count;
 
-                // 거부일
-                Cell cell11 = row.createCell(11);
-                if (app.getRejectedAt() != null) {
-                    cell11.setCellValue(app.getRejectedAt().format(DATE_FORMATTER));
-                }
-                cell11.setCellStyle(dataStyle);
+        } finally {
+            // SXSSF 임시 파일 삭제
+            workbook.dispose();
+            workbook.close();
+        }
+    }
 
-                // 취소일
-                Cell cell12 = row.createCell(12);
-                if (app.getCancelledAt() != null) {
-                    cell12.setCellValue(app.getCancelledAt().format(DATE_FORMATTER));
-                }
-                cell12.setCellStyle(dataStyle);
+    /**
+     * 일괄 Excel 행 기록 상태 (정렬된 행을 받으며 프로그램이 바뀔 때 시트 전환)
+     */
+    private class BulkSheetWriter {
+
+        private final Workbook workbook;
+        private final boolean sheetPerProgram;
+        private final CellStyle headerStyle;
+        private final CellStyle dataStyle;
+
+        private Sheet sheet;
+        private Integer currentProgramId;
+        private int rowNum = 1;
+        private int count;
+        private int programCount;
+
+        BulkSheetWriter(Workbook workbook, boolean sheetPerProgram, CellStyle headerStyle, CellStyle dataStyle) {
+            this.workbook = workbook;
+            this.sheetPerProgram = sheetPerProgram;
+            this.headerStyle = headerStyle;
+            this.dataStyle = dataStyle;
+            if (!sheetPerProgram) {
+                sheet = createSheet(workbook, "신청 목록", BULK_APPLICATION_COLUMNS, BULK_APPLICATION_COLUMN_WIDTHS, headerStyle);
+            }
+        }
 
-                // 거부 사유
-                Cell cell13 = row.createCell(13);
-                if (app.getRejectionReason() != null) {
-                    cell13.setCellValue(app.getRejectionReason());
+        void write(ApplicationExportRow app) {
+            if (!app.getProgramId().equals(currentProgramId)) {
+                // 정렬된 결과이므로 프로그램 ID가 바뀌면 이전 프로그램의 행은 모두 기록된 상태
+                currentProgramId = app.getProgramId();
+                programCount++;
+                if (sheetPerProgram) {
+                    String sheetName = WorkbookUtil.createSafeSheetName(
+                            app.getProgramId() + " " + app.getProgramTitle());
+                    sheet = createSheet(workbook, sheetName, APPLICATION_COLUMNS, APPLICATION_COLUMN_WIDTHS, headerStyle);
+                    rowNum = 1;
                 }
-                cell13.setCellStyle(dataStyle);
             }
 
-            // 열 너비 자동 조정
-            for (int i = 0; i < columns.length; i++) {
-                sheet.autoSizeColumn(i);
-                // 최소 너비 설정 (한글 지원)
-                sheet.setColumnWidth(i, Math.max(sheet.getColumnWidth(i), 3000));
+            Row row = sheet.createRow(rowNum++);
+            if (sheetPerProgram) {
+                writeApplicationRow(row, 0, app, dataStyle);
+            } else {
+                setCell(row, 0, app.getProgramId(), dataStyle);
+                setCell(row, 1, app.getProgramTitle(), dataStyle);
+                writeApplicationRow(row, 2, app, dataStyle);
             }
+            count++;
+        }
+    }
 
-            workbook.write(out);
-            log.info("Excel 파일 생성 완료: 프로그램={}, 신청 수={}", programTitle, applications.size());
-            return new ByteArrayInputStream(out.toByteArray());
+    /**
+     * 헤더 행과 열 너비를 지정한 시트 생성
+     */
+    private Sheet createSheet(Workbook workbook, String name, String[] columns, int[] widths, CellStyle headerStyle) {
+        Sheet sheet = workbook.createSheet(name);
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < columns.length; i++) {
+            setCell(headerRow, i, columns[i], headerStyle);
+            sheet.setColumnWidth(i, widths[i] * 256);
+        }
+        return sheet;
+    }
+
+    /**
+     * 신청 한 건을 지정한 열부터 기록
+     */
+    private void writeApplicationRow(Row row, int startColumn, ApplicationExportRow app, CellStyle style) {
+        int column = startColumn;
+        setCell(row, column++, app.getApplicationId(), style);
+        setCell(row, column++, app.getStudentNum(), style);
+        setCell(row, column++, app.getName(), style);
+        setCell(row, column++, app.getPhone(), style);
+        setCell(row, column++, app.getEmail(), style);
+        setCell(row, column++, app.getDepartment(), style);
+        setCell(row, column++, app.getGrade(), style);
+        setCell(row, column++, getStatusText(app.getStatus()), style);
+        setCell(row, column++, format(app.getAppliedAt()), style);
+        setCell(row, column++, format(app.getApprovedAt()), style);
+        setCell(row, column++, format(app.getCompletedAt()), style);
+        setCell(row, column++, format(app.getRejectedAt()), style);
+        setCell(row, column++, format(app.getCancelledAt()), style);
+        setCell(row, column, app.getRejectionReason(), style);
+    }
+
+    private void setCell(Row row, int column, String value, CellStyle style) {
+        Cell cell = row.createCell(column);
+        if (value != null) {
+            cell.setCellValue(value);
+        }
+        cell.setCellStyle(style);
+    }
 
-        } catch (IOException e) {
-            log.error("Excel 파일 생성 실패", e);
-            throw new RuntimeException("Excel 파일을 생성할 수 없습니다.", e);
+    private void setCell(Row row, int column, Integer value, CellStyle style) {
+        Cell cell = row.createCell(column);
+        if (value != null) {
+            cell.setCellValue(value);
         }
+        cell.setCellStyle(style);
+    }
+
+    private String format(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.format(DATE_FORMATTER) : null;
     }
 
     /**
@@ -212,22 +287,22 @@ public class ExcelService {
     }
 
     /**
-     * 상태 코드를 한글 텍스트로 변환
+     * 상태 코드를 한글 텍스트로 변환 (CSV 내보내기도 같은 표시 사용)
      */
-    private String getStatusText(String status) {
+    static String getStatusText(ApplicationStatus status) {
         switch (status) {
-            case "PENDING":
+            case PENDING:
                 return "대기 중";
-            case "APPROVED":
+            case APPROVED:
                 return "승인됨";
-            case "COMPLETED":
+            case COMPLETED:
                 return "참여 완료";
-            case "REJECTED":
+            case REJECTED:
                 return "거부됨";
-            case "CANCELLED":
+            case CANCELLED:
                 return "취소됨";
             default:
-                return status;
+                return status.name();
         }
     }
 }
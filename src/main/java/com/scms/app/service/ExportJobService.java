@@ -0,0 +1,341 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.ApplicationExportFilter;
+import com.scms.app.dto.ExportJob;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 신청자 목록 비동기 내보내기 Service
+ *
+ * 내보내기 요청은 작업으로 등록되어 크기가 제한된 전용 스레드 풀에서 파일로 생성되므로,
+ * 대용량 내보내기가 Tomcat 요청 스레드를 점유하거나 프록시 타임아웃에 걸리지 않는다.
+ *
+ * 작업 상태는 export_jobs 테이블에, 파일은 scms.export.directory에 저장한다.
+ * 여러 인스턴스를 sticky routing 없이 운영하려면 이 경로를 모든 인스턴스가 공유하는 저장소(NFS 등)로 지정해야 하며,
+ * 그렇지 않으면 상태 조회는 어느 인스턴스에서든 되지만 파일은 생성한 인스턴스에서만 내려받을 수 있다.
+ * 파일 생성은 작업을 등록한 인스턴스에서 실행되며, 만료된 작업과 파일은 정리 주기마다 삭제된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportJobService {
+
+    private static final Set<String> FORMATS = Set.of("xlsx", "csv", "ndjson");
+    private static final int MAX_TARGET_LENGTH = 255;
+
+    private static final String INSERT_JOB_SQL =
+            "INSERT INTO export_jobs (job_id, user_id, target, format, sheet_per_program, file_name, stored_file, " +
+            "status, requested_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String START_JOB_SQL =
+            "UPDATE export_jobs SET status = 'RUNNING' WHERE job_id = ? AND status = 'QUEUED'";
+
+    private static final String COMPLETE_JOB_SQL =
+            "UPDATE export_jobs SET status = 'COMPLETED', row_count = ?, file_size = ?, completed_at = ?, expires_at = ? " +
+            "WHERE job_id = ? AND status = 'RUNNING'";
+
+    private static final String FAIL_JOB_SQL =
+            "UPDATE export_jobs SET status = 'FAILED', message = ?, completed_at = ? " +
+            "WHERE job_id = ? AND status IN ('QUEUED', 'RUNNING')";
+
+    private static final String SELECT_JOB_SQL =
+            "SELECT job_id, user_id, target, format, sheet_per_program, file_name, stored_file, status, row_count, " +
+            "file_size, message, requested_at, completed_at, expires_at FROM export_jobs WHERE job_id = ? AND user_id = ?";
+
+    private static final String EXPIRED_JOBS_SQL =
+            "SELECT job_id, stored_file FROM export_jobs " +
+            "WHERE expires_at < ? OR (status = 'FAILED' AND completed_at < ?)";
+
+    private static final String ABANDONED_JOBS_SQL =
+            "UPDATE export_jobs SET status = 'FAILED', message = ?, completed_at = ? " +
+            "WHERE status IN ('QUEUED', 'RUNNING') AND requested_at < ?";
+
+    private final ExcelService excelService;
+    private final ApplicationExportService applicationExportService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${scms.export.directory:${java.io.tmpdir}/scms-exports}")
+    private String directory;
+
+    @Value("${scms.export.workers:2}")
+    private int workers;
+
+    @Value("${scms.export.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${scms.export.file-ttl-ms:3600000}")
+    private long fileTtlMs;
+
+    private Path exportDirectory;
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() throws IOException {
+        exportDirectory = Files.createDirectories(Paths.get(directory));
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "export-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 내보내기 작업 등록
+     *
+     * @param format          xlsx, csv 또는 ndjson
+     * @param filter          대상 프로그램 조건 (조건이 없으면 전체 프로그램)
+     * @param programTitle    단일 프로그램 조건이면 호출 측에서 존재를 확인한 프로그램명, 아니면 null
+     * @param sheetPerProgram 여러 프로그램 Excel 내보내기 시 프로그램별 시트 사용 여부
+     */
+    public ExportJob submit(Integer userId, String format, ApplicationExportFilter filter, String programTitle,
+                            boolean sheetPerProgram) {
+        String normalizedFormat = format == null ? "" : format.toLowerCase();
+        if (!FORMATS.contains(normalizedFormat)) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+        }
+
+        String prefix = programTitle != null ? programTitle : "일괄";
+
+        String jobId = UUID.randomUUID().toString();
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        ExportJob job = ExportJob.builder()
+                .jobId(jobId)
+                .userId(userId)
+                .file(exportDirectory.resolve(storedFileName(jobId, normalizedFormat)))
+                .filter(filter)
+                .target(truncate(filter.describe(), MAX_TARGET_LENGTH))
+                .format(normalizedFormat)
+                .sheetPerProgram(sheetPerProgram)
+                .fileName(String.format("%s_신청자목록_%s.%s", prefix, timestamp, normalizedFormat))
+                .status(ExportJob.Status.QUEUED)
+                .statusDescription(ExportJob.Status.QUEUED.getDescription())
+                .requestedAt(LocalDateTime.now())
+                .build();
+        jdbcTemplate.update(INSERT_JOB_SQL,
+                job.getJobId(),
+                userId,
+                job.getTarget(),
+                normalizedFormat,
+                sheetPerProgram,
+                job.getFileName(),
+                job.getFile().getFileName().toString(),
+                job.getStatus().name(),
+                Timestamp.valueOf(job.getRequestedAt()));
+
+        try {
+            executor.execute(new ExportTask(job, programTitle));
+        } catch (RejectedExecutionException e) {
+            jdbcTemplate.update("DELETE FROM export_jobs WHERE job_id = ?", job.getJobId());
+            throw new IllegalStateException("내보내기 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.info("내보내기 작업 등록: 작업 {}, 형식 {}, 조건 {}", job.getJobId(), normalizedFormat, job.getTarget());
+        return job;
+    }
+
+    /**
+     * 작업 상태 조회 (요청한 사용자만 조회 가능)
+     */
+    public ExportJob getJob(String jobId, Integer userId) {
+        List<ExportJob> found = jdbcTemplate.query(SELECT_JOB_SQL, (rs, rowNum) -> {
+            ExportJob.Status status = ExportJob.Status.valueOf(rs.getString("status"));
+            Timestamp completedAt = rs.getTimestamp("completed_at");
+            Timestamp expiresAt = rs.getTimestamp("expires_at");
+            return ExportJob.builder()
+                    .jobId(rs.getString("job_id"))
+                    .userId(rs.getInt("user_id"))
+                    .file(exportDirectory.resolve(rs.getString("stored_file")))
+                    .target(rs.getString("target"))
+                    .format(rs.getString("format"))
+                    .sheetPerProgram(rs.getBoolean("sheet_per_program"))
+                    .fileName(rs.getString("file_name"))
+                    .status(status)
+                    .statusDescription(status.getDescription())
+                    .rowCount(rs.getObject("row_count", Long.class))
+                    .fileSize(rs.getObject("file_size", Long.class))
+                    .message(rs.getString("message"))
+                    .requestedAt(rs.getTimestamp("requested_at").toLocalDateTime())
+                    .completedAt(completedAt != null ? completedAt.toLocalDateTime() : null)
+                    .expiresAt(expiresAt != null ? expiresAt.toLocalDateTime() : null)
+                    .build();
+        }, jobId, userId);
+        if (found.isEmpty()) {
+            throw new IllegalArgumentException("내보내기 작업을 찾을 수 없습니다.");
+        }
+        return found.get(0);
+    }
+
+    /**
+     * 내려받을 작업 조회
+     */
+    public ExportJob getDownloadableJob(String jobId, Integer userId) {
+        ExportJob job = getJob(jobId, userId);
+        if (!job.isDownloadable()) {
+            throw new IllegalStateException("파일이 아직 준비되지 않았습니다. (" + job.getStatusDescription() + ")");
+        }
+        if (!Files.exists(job.getFile())) {
+            throw new IllegalArgumentException("내보내기 파일이 만료되었습니다.");
+        }
+        return job;
+    }
+
+    /**
+     * 이 인스턴스에서 대기 중인 작업 수
+     */
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    private void run(ExportJob job, String programTitle) {
+        if (jdbcTemplate.update(START_JOB_SQL, job.getJobId()) == 0) {
+            return;
+        }
+
+        Path file = job.getFile();
+        try {
+            long rowCount;
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                ApplicationExportFilter filter = job.getFilter();
+                rowCount = switch (job.getFormat()) {
+                    case "xlsx" -> filter.isSingleProgram()
+                            ? excelService.writeApplicationsExcel(filter.getProgramIds().get(0), programTitle, out)
+                            : excelService.writeBulkApplicationsExcel(filter, job.getSheetPerProgram(), out);
+                    case "csv" -> applicationExportService.writeCsv(filter, out);
+                    default -> applicationExportService.writeNdjson(filter, out);
+                };
+            }
+
+            long fileSize = Files.size(file);
+            LocalDateTime completedAt = LocalDateTime.now();
+            LocalDateTime expiresAt = completedAt.plusNanos(fileTtlMs * 1_000_000L);
+            // 정리 주기에서 이미 실패 처리된 작업이면 파일을 남기지 않음
+            if (jdbcTemplate.update(COMPLETE_JOB_SQL, rowCount, fileSize, Timestamp.valueOf(completedAt),
+                    Timestamp.valueOf(expiresAt), job.getJobId()) == 0) {
+                deleteQuietly(file);
+                return;
+            }
+            log.info("내보내기 작업 완료: 작업 {}, {}행, {}바이트", job.getJobId(), rowCount, fileSize);
+
+        } catch (Exception e) {
+            log.error("내보내기 작업 실패: 작업 {}", job.getJobId(), e);
+            deleteQuietly(file);
+            markFailed(job.getJobId(), "파일 생성에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 만료된 내보내기 파일 및 작업 정리
+     * - 보관 시간이 지나도록 끝나지 않은 작업(등록한 인스턴스가 비정상 종료된 경우)은 실패로 바꿈
+     * - 모든 인스턴스가 실행해도 결과가 같은 멱등 문장만 사용
+     */
+    @Scheduled(fixedDelayString = "${scms.export.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp expiry = Timestamp.valueOf(now.minusNanos(fileTtlMs * 1_000_000L));
+        try {
+            jdbcTemplate.update(ABANDONED_JOBS_SQL, "작업이 처리되지 않았습니다. 다시 요청해주세요.",
+                    Timestamp.valueOf(now), expiry);
+            List<String[]> expired = jdbcTemplate.query(EXPIRED_JOBS_SQL,
+                    (rs, rowNum) -> new String[]{rs.getString("job_id"), rs.getString("stored_file")},
+                    Timestamp.valueOf(now), expiry);
+            for (String[] job : expired) {
+                deleteQuietly(exportDirectory.resolve(job[1]));
+                jdbcTemplate.update("DELETE FROM export_jobs WHERE job_id = ?", job[0]);
+            }
+        } catch (DataAccessException e) {
+            log.warn("내보내기 작업 정리 실패", e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 진행 중인 작업 중단, 시작하지 못한 작업은 실패 처리
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Runnable pending : executor.shutdownNow()) {
+            if (pending instanceof ExportTask task) {
+                markFailed(task.job.getJobId(), "서버가 종료되어 작업이 취소되었습니다. 다시 요청해주세요.");
+            }
+        }
+    }
+
+    private void markFailed(String jobId, String message) {
+        try {
+            jdbcTemplate.update(FAIL_JOB_SQL, message, Timestamp.valueOf(LocalDateTime.now()), jobId);
+        } catch (DataAccessException e) {
+            log.warn("내보내기 작업 실패 처리 실패: 작업 {}", jobId, e);
+        }
+    }
+
+    /**
+     * export_jobs.target 컬럼 길이에 맞춤 (프로그램 ID를 많이 지정하면 조건 설명이 길어짐)
+     */
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static String storedFileName(String jobId, String format) {
+        return "export-" + jobId + "." + format;
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("내보내기 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    /**
+     * 대기열 작업 (종료 시 시작하지 못한 작업을 실패 처리할 수 있도록 작업 정보를 보관)
+     */
+    private final class ExportTask implements Runnable {
+
+        private final ExportJob job;
+        private final String programTitle;
+
+        private ExportTask(ExportJob job, String programTitle) {
+            this.job = job;
+            this.programTitle = programTitle;
+        }
+
+        @Override
+        public void run() {
+            ExportJobService.this.run(job, programTitle);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.scms.app.service;
+
+import com.scms.app.model.Program;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 고수요 프로그램 잔여 좌석 카운터
+ *
+ * 고수요 모드 프로그램의 잔여 좌석을 프로세스 내 원자적 카운터로 관리한다.
+ * 최초 신청 시 maxParticipants - currentParticipants (- 저장 대기 중인 신청 수)로 초기화되며,
+ * 좌석이 0이 되면 DB 조회 없이 즉시 신청을 거절할 수 있다.
+ * 카운터와 실제 신청 수의 차이는 HighDemandSeatReconciler가 주기적으로 보정한다.
+ * 카운터는 인스턴스마다 따로 있으므로 빠른 거절에만 쓰이며, 최종 정원 판정은 저장 시 프로그램 행 잠금 아래에서 한다.
+ */
+@Component
+@Slf4j
+public class HighDemandSeatCounter {
+
+    private final Map<Integer, AtomicInteger> remainingSeats = new ConcurrentHashMap<>();
+
+    /**
+     * 잔여 좌석이 없는지 확인 (관리 중인 프로그램만 해당)
+     */
+    public boolean isSoldOut(Integer programId) {
+        AtomicInteger seats = remainingSeats.get(programId);
+        return seats != null && seats.get() <= 0;
+    }
+
+    /**
+     * 카운터가 없으면 DB 값으로 초기화
+     *
+     * @param pendingCount 아직 DB에 저장되지 않은 신청 수
+     */
+    public void seedIfAbsent(Program program, int pendingCount) {
+        remainingSeats.computeIfAbsent(program.getProgramId(), id -> {
+            int seats = Math.max(program.getMaxParticipants() - program.getCurrentParticipants() - pendingCount, 0);
+            log.info("고수요 좌석 카운터 초기화: 프로그램 ID {}, 잔여 좌석 {}", id, seats);
+            return new AtomicInteger(seats);
+        });
+    }
+
+    /**
+     * 좌석 1개 확보 (잔여 좌석이 있을 때만 감소)
+     */
+    public boolean tryAcquire(Integer programId) {
+        AtomicInteger seats = remainingSeats.get(programId);
+        if (seats == null) {
+            return false;
+        }
+        while (true) {
+            int current = seats.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (seats.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 좌석 반환 (관리 중인 프로그램만 해당)
+     */
+    public void release(Integer programId, int count) {
+        AtomicInteger seats = remainingSeats.get(programId);
+        if (seats != null) {
+            seats.addAndGet(count);
+        }
+    }
+
+    /**
+     * 카운터 제거 (프로그램 수정/삭제 시, 다음 신청에서 다시 초기화)
+     */
+    public void evict(Integer programId) {
+        if (remainingSeats.remove(programId) != null) {
+            log.info("고수요 좌석 카운터 제거: 프로그램 ID {}", programId);
+        }
+    }
+
+    /**
+     * 관리 중인 프로그램 ID 목록
+     */
+    public Set<Integer> getTrackedProgramIds() {
+        return Set.copyOf(remainingSeats.keySet());
+    }
+
+    /**
+     * 잔여 좌석 조회 (관리 중이 아니면 null)
+     */
+    public Integer getRemainingSeats(Integer programId) {
+        AtomicInteger seats = remainingSeats.get(programId);
+        return seats != null ? seats.get() : null;
+    }
+
+    /**
+     * 잔여 좌석 보정 (expected 값일 때만 변경)
+     */
+    public boolean correct(Integer programId, int expected, int corrected) {
+        AtomicInteger seats = remainingSeats.get(programId);
+        return seats != null && seats.compareAndSet(expected, corrected);
+    }
+}
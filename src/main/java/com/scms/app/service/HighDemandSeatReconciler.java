@@ -0,0 +1,76 @@
+package com.scms.app.service;
+
+import com.scms.app.model.Program;
+import com.scms.app.repository.ProgramApplicationRepository;
+import com.scms.app.repository.ProgramRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 고수요 좌석 카운터 보정기
+ *
+ * 주기적으로 메모리 카운터를 실제 활성 신청 수(ProgramApplicationRepository)와 비교하여,
+ * 저장 실패나 재초기화 등으로 생긴 차이를 보정한다.
+ * 비교 중에 신청/저장이 발생했거나 저장이 진행 중인 프로그램은 이번 주기에서 건너뛴다.
+ * (커밋 직후 대기 수가 차감되기 전에는 같은 신청이 활성 신청 수와 대기 수에 모두 잡혀 잔여 좌석이 낮게 계산되므로)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HighDemandSeatReconciler {
+
+    private final HighDemandSeatCounter highDemandSeatCounter;
+    private final ApplicationPipeline applicationPipeline;
+    private final ProgramRepository programRepository;
+    private final ProgramApplicationRepository applicationRepository;
+
+    @Scheduled(fixedDelayString = "${scms.program.high-demand.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        for (Integer programId : highDemandSeatCounter.getTrackedProgramIds()) {
+            try {
+                reconcile(programId);
+            } catch (Exception e) {
+                log.error("고수요 좌석 보정 실패: 프로그램 ID {}", programId, e);
+            }
+        }
+    }
+
+    private void reconcile(Integer programId) {
+        Optional<Program> found = programRepository.findByIdNotDeleted(programId);
+        if (found.isEmpty() || !found.get().isHighDemandMode()) {
+            highDemandSeatCounter.evict(programId);
+            return;
+        }
+        Program program = found.get();
+
+        long writeVersion = applicationPipeline.getWriteVersion(programId);
+        Integer remainingBefore = highDemandSeatCounter.getRemainingSeats(programId);
+        int pendingBefore = applicationPipeline.getPendingCount(programId);
+        if (remainingBefore == null || writeVersion < 0) {
+            return;
+        }
+
+        long activeApplications = applicationRepository.countActiveApplicationsByProgramId(programId);
+
+        // 집계 중 신청/저장이 있었으면 다음 주기에 다시 확인
+        if (!remainingBefore.equals(highDemandSeatCounter.getRemainingSeats(programId))
+                || pendingBefore != applicationPipeline.getPendingCount(programId)
+                || writeVersion != applicationPipeline.getWriteVersion(programId)) {
+            return;
+        }
+
+        if (program.getCurrentParticipants() != activeApplications) {
+            log.warn("참가자 수 불일치: 프로그램 ID {}, currentParticipants {}, 활성 신청 {}",
+                    programId, program.getCurrentParticipants(), activeApplications);
+        }
+
+        int expected = (int) Math.max(program.getMaxParticipants() - activeApplications - pendingBefore, 0);
+        if (expected != remainingBefore && highDemandSeatCounter.correct(programId, remainingBefore, expected)) {
+            log.warn("고수요 좌석 카운터 보정: 프로그램 ID {}, {} → {}", programId, remainingBefore, expected);
+        }
+    }
+}
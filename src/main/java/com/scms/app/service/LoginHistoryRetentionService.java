@@ -0,0 +1,411 @@
+package com.scms.app.service;
+
+import com.scms.app.util.CsvUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 로그인 이력 보관 주기 관리 Service
+ *
+ * 매일 한 번 다음 작업을 수행한다.
+ * 1. 전날까지의 시간대별 로그인 수 / IP별 실패 수를 집계 테이블에 저장 (원본이 삭제되어도 통계 유지)
+ * 2. login_history가 월 단위 파티션 테이블이면 앞으로 쓸 월 파티션을 미리 생성
+ * 3. 보관 기간이 지난 월의 이력을 gzip CSV 파일로 보관한 뒤 파티션 삭제 (파티션이 없으면 청크 단위 DELETE)
+ *
+ * 보관 파일은 덮어쓰지 않는다. 같은 월의 파일이 이미 있으면 번호를 붙인 파일(login_history_p202401-2.csv.gz)로 쓰고,
+ * 삭제 전에 보관한 마지막 history_id를 .delete-pending 표시 파일에 남겨, 삭제가 중간에 실패하면
+ * 다음 실행에서 다시 보관하지 않고 그 행까지 이어서 삭제한다.
+ *
+ * 여러 인스턴스가 같은 시각에 실행하므로 MySQL GET_LOCK으로 한 인스턴스만 실행한다.
+ * 잠금은 획득한 연결에 묶이므로 작업이 끝날 때까지 그 연결을 유지하고, 연결이 끊기면 자동으로 풀린다.
+ */
+@Service
+@Slf4j
+public class LoginHistoryRetentionService {
+
+    private static final String TABLE = "login_history";
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME_FORMATTER = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter BOUND_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int DELETE_CHUNK_SIZE = 5000;
+    private static final String MAINTENANCE_LOCK = "scms.login_history.maintenance";
+
+    private static final String ARCHIVE_COLUMNS =
+            "history_id, user_id, login_at, ip_address, user_agent, is_success, fail_reason";
+    private static final int ARCHIVE_COLUMN_COUNT = 7;
+    private static final String ARCHIVE_EXTENSION = ".csv.gz";
+    private static final String PENDING_EXTENSION = ".delete-pending";
+
+    private static final String HOURLY_ROLLUP_SQL =
+            "INSERT INTO login_hourly_rollups (stat_date, stat_hour, success_count, failure_count, user_count) " +
+            "SELECT ?, HOUR(login_at), " +
+            "SUM(CASE WHEN is_success = TRUE THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN is_success = TRUE THEN 0 ELSE 1 END), " +
+            "COUNT(DISTINCT user_id) " +
+            "FROM login_history WHERE login_at >= ? AND login_at < ? " +
+            "GROUP BY HOUR(login_at)";
+
+    private static final String FAILURE_IP_ROLLUP_SQL =
+            "INSERT INTO login_failure_ip_rollups (stat_date, ip_address, failure_count, user_count, last_failed_at) " +
+            "SELECT ?, ip_address, COUNT(*), COUNT(DISTINCT user_id), MAX(login_at) " +
+            "FROM login_history WHERE is_success = FALSE AND ip_address IS NOT NULL " +
+            "AND login_at >= ? AND login_at < ? " +
+            "GROUP BY ip_address";
+
+    private static final String PARTITIONS_SQL =
+            "SELECT partition_name, partition_description FROM information_schema.partitions " +
+            "WHERE table_schema = DATABASE() AND table_name = '" + TABLE + "' AND partition_name IS NOT NULL " +
+            "ORDER BY partition_ordinal_position";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate archiveJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${scms.login.history.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${scms.login.history.archive-directory:./archive/login-history}")
+    private String archiveDirectory;
+
+    @Value("${scms.login.history.future-partitions:3}")
+    private int futurePartitions;
+
+    @Value("${scms.login.history.rollup-backfill-days:31}")
+    private int rollupBackfillDays;
+
+    /**
+     * 월 파티션 (upperBound가 null이면 MAXVALUE 파티션)
+     */
+    private record Partition(String name, LocalDateTime upperBound) {
+    }
+
+    /**
+     * 보관 결과 (행이 없으면 file이 null)
+     */
+    private record Archived(Path file, long rowCount, long maxHistoryId) {
+    }
+
+    public LoginHistoryRetentionService(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${scms.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.archiveJdbcTemplate = new JdbcTemplate(dataSource);
+        this.archiveJdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * 일일 집계 → 파티션 준비 → 보관 기간 경과분 보관/삭제
+     */
+    @Scheduled(cron = "${scms.login.history.retention-cron:0 30 3 * * *}")
+    public void runDailyMaintenance() {
+        if (!isMySql()) {
+            // 단일 인스턴스 개발/테스트 DB
+            runMaintenance();
+            return;
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement lock = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+                lock.setString(1, MAINTENANCE_LOCK);
+                try (ResultSet rs = lock.executeQuery()) {
+                    if (!rs.next() || rs.getInt(1) != 1) {
+                        log.info("다른 인스턴스가 로그인 이력 일일 작업을 실행 중이므로 건너뜀");
+                        return null;
+                    }
+                }
+            }
+            try {
+                runMaintenance();
+            } finally {
+                try (PreparedStatement release = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                    release.setString(1, MAINTENANCE_LOCK);
+                    release.executeQuery().close();
+                }
+            }
+            return null;
+        });
+    }
+
+    private void runMaintenance() {
+        try {
+            rollupUntil(LocalDate.now().minusDays(1));
+        } catch (Exception e) {
+            log.error("로그인 이력 일일 집계 실패", e);
+        }
+
+        boolean partitioned = isPartitioned();
+        if (partitioned) {
+            try {
+                ensureFuturePartitions();
+            } catch (Exception e) {
+                log.error("로그인 이력 파티션 생성 실패", e);
+            }
+        }
+
+        try {
+            archiveExpired(partitioned);
+        } catch (Exception e) {
+            log.error("로그인 이력 보관 처리 실패", e);
+        }
+    }
+
+    /**
+     * 마지막 집계일 다음 날부터 lastDate까지 집계 (최대 rollup-backfill-days일)
+     */
+    public void rollupUntil(LocalDate lastDate) {
+        LocalDate start = lastDate.minusDays(rollupBackfillDays - 1L);
+        LocalDate latest = jdbcTemplate.queryForObject("SELECT MAX(stat_date) FROM login_hourly_rollups", LocalDate.class);
+        if (latest != null && latest.plusDays(1).isAfter(start)) {
+            start = latest.plusDays(1);
+        }
+        for (LocalDate date = start; !date.isAfter(lastDate); date = date.plusDays(1)) {
+            rollupDay(date);
+        }
+    }
+
+    /**
+     * 하루치 집계 (다시 실행해도 같은 결과가 되도록 해당 날짜 집계를 지우고 새로 생성)
+     */
+    public void rollupDay(LocalDate date) {
+        Timestamp from = Timestamp.valueOf(date.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(date.plusDays(1).atStartOfDay());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM login_hourly_rollups WHERE stat_date = ?", date);
+            int hours = jdbcTemplate.update(HOURLY_ROLLUP_SQL, date, from, to);
+            jdbcTemplate.update("DELETE FROM login_failure_ip_rollups WHERE stat_date = ?", date);
+            int ips = jdbcTemplate.update(FAILURE_IP_ROLLUP_SQL, date, from, to);
+            log.debug("로그인 이력 집계 완료: {} (시간대 {}개, 실패 IP {}개)", date, hours, ips);
+        });
+    }
+
+    /**
+     * 현재 월부터 future-partitions개월 뒤까지의 파티션을 MAXVALUE 파티션에서 분리해 생성
+     */
+    public void ensureFuturePartitions() {
+        List<Partition> partitions = loadPartitions();
+        if (partitions.stream().noneMatch(partition -> MAX_PARTITION.equals(partition.name()))) {
+            log.warn("로그인 이력 테이블에 {} 파티션이 없어 새 파티션을 만들 수 없습니다", MAX_PARTITION);
+            return;
+        }
+
+        LocalDateTime lastBound = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(bound -> bound != null)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= futurePartitions; i++) {
+            YearMonth month = current.plusMonths(i);
+            LocalDateTime upperBound = month.plusMonths(1).atDay(1).atStartOfDay();
+            if (lastBound != null && !upperBound.isAfter(lastBound)) {
+                continue;
+            }
+            String name = month.atDay(1).format(PARTITION_NAME_FORMATTER);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+                    "PARTITION " + name + " VALUES LESS THAN ('" + upperBound.format(BOUND_FORMATTER) + "'), " +
+                    "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            lastBound = upperBound;
+            log.info("로그인 이력 파티션 생성: {}", name);
+        }
+    }
+
+    /**
+     * 보관 기간(retention-months)이 지난 월의 이력을 파일로 보관한 뒤 삭제
+     */
+    public void archiveExpired(boolean partitioned) throws IOException {
+        LocalDateTime cutoff = YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+        Path directory = Files.createDirectories(Paths.get(archiveDirectory));
+
+        if (partitioned) {
+            for (Partition partition : loadPartitions()) {
+                if (partition.upperBound() == null || partition.upperBound().isAfter(cutoff)) {
+                    break;
+                }
+                String base = TABLE + "_" + partition.name();
+                Path pending = directory.resolve(base + PENDING_EXTENSION);
+                // 이전 실행에서 보관까지 끝났으면 다시 보관하지 않고 삭제만 진행
+                if (!Files.exists(pending)) {
+                    String source = TABLE + " PARTITION (" + partition.name() + ")";
+                    Archived archived = archive(source, "1 = 1", new Object[0], directory, base);
+                    markPending(pending, archived.maxHistoryId());
+                }
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition.name());
+                Files.delete(pending);
+                log.info("로그인 이력 파티션 보관 및 삭제 완료: {}", partition.name());
+            }
+            return;
+        }
+
+        LocalDateTime oldest = jdbcTemplate.queryForObject("SELECT MIN(login_at) FROM " + TABLE, LocalDateTime.class);
+        if (oldest == null) {
+            return;
+        }
+        for (YearMonth month = YearMonth.from(oldest); !month.plusMonths(1).atDay(1).atStartOfDay().isAfter(cutoff);
+             month = month.plusMonths(1)) {
+            Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+            Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+            String base = TABLE + "_" + month.atDay(1).format(PARTITION_NAME_FORMATTER);
+            Path pending = directory.resolve(base + PENDING_EXTENSION);
+
+            // 이전 실행에서 보관 후 삭제가 중단되었으면 보관된 행까지 이어서 삭제
+            if (Files.exists(pending)) {
+                long resumed = deleteInChunks(from, to, readPending(pending));
+                Files.delete(pending);
+                log.info("로그인 이력 삭제 재개 완료: {} ({}행 삭제)", base, resumed);
+            }
+
+            Archived archived = archive(TABLE, "login_at >= ? AND login_at < ?", new Object[]{from, to}, directory, base);
+            if (archived.rowCount() > 0) {
+                markPending(pending, archived.maxHistoryId());
+                long deleted = deleteInChunks(from, to, archived.maxHistoryId());
+                Files.delete(pending);
+                log.info("로그인 이력 보관 및 삭제 완료: {} ({}행 보관, {}행 삭제)", base, archived.rowCount(), deleted);
+            }
+        }
+    }
+
+    /**
+     * 이력 행을 gzip CSV로 기록 (임시 파일에 쓴 뒤 건수를 확인하고, 기존 파일과 겹치지 않는 이름으로 이동)
+     */
+    private Archived archive(String source, String condition, Object[] args, Path directory, String base)
+            throws IOException {
+        Long expected = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + source + " WHERE " + condition, Long.class, args);
+        if (expected == null || expected == 0) {
+            return new Archived(null, 0, 0);
+        }
+
+        Path temporary = directory.resolve(base + ARCHIVE_EXTENSION + ".part");
+        long[] written = {0, 0};
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temporary)), StandardCharsets.UTF_8))) {
+            writer.write(ARCHIVE_COLUMNS.replace(" ", ""));
+            writer.write(CsvUtils.LINE_SEPARATOR);
+
+            archiveJdbcTemplate.query("SELECT " + ARCHIVE_COLUMNS + " FROM " + source + " WHERE " + condition +
+                    " ORDER BY login_at", (RowCallbackHandler) rs -> {
+                String[] fields = new String[ARCHIVE_COLUMN_COUNT];
+                for (int i = 0; i < fields.length; i++) {
+                    Object value = rs.getObject(i + 1);
+                    fields[i] = value != null ? value.toString() : null;
+                }
+                written[1] = Math.max(written[1], rs.getLong(1));
+                try {
+                    CsvUtils.writeLine(writer, fields);
+                    written[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, args);
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(temporary);
+            throw e.getCause();
+        }
+
+        if (written[0] != expected) {
+            Files.deleteIfExists(temporary);
+            throw new IllegalStateException("로그인 이력 보관 건수 불일치: " + source + " 예상 " + expected + "행, 기록 " + written[0] + "행");
+        }
+
+        // 대상 파일이 있으면 이동하지 않고 실패하므로 기존 보관 파일은 덮어쓰지 않음
+        Path target = nextArchiveFile(directory, base);
+        Files.move(temporary, target);
+        log.info("로그인 이력 보관 파일 생성: {} ({}행)", target, written[0]);
+        return new Archived(target, written[0], written[1]);
+    }
+
+    /**
+     * 아직 없는 보관 파일 이름 (base.csv.gz, base-2.csv.gz, base-3.csv.gz ...)
+     */
+    static Path nextArchiveFile(Path directory, String base) {
+        Path target = directory.resolve(base + ARCHIVE_EXTENSION);
+        for (int part = 2; Files.exists(target); part++) {
+            target = directory.resolve(base + "-" + part + ARCHIVE_EXTENSION);
+        }
+        return target;
+    }
+
+    private void markPending(Path pending, long maxHistoryId) throws IOException {
+        Files.writeString(pending, Long.toString(maxHistoryId), StandardCharsets.UTF_8);
+    }
+
+    private long readPending(Path pending) throws IOException {
+        return Long.parseLong(Files.readString(pending, StandardCharsets.UTF_8).trim());
+    }
+
+    /**
+     * 파티션이 없는 테이블에서 보관한 행(maxHistoryId 이하)을 청크 단위로 삭제 (긴 잠금/대형 트랜잭션 방지)
+     */
+    private long deleteInChunks(Timestamp from, Timestamp to, long maxHistoryId) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE login_at >= ? AND login_at < ? " +
+                    "AND history_id <= ? LIMIT " + DELETE_CHUNK_SIZE, from, to, maxHistoryId);
+            total += deleted;
+        } while (deleted == DELETE_CHUNK_SIZE);
+        return total;
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    private boolean isPartitioned() {
+        try {
+            return isMySql() && !loadPartitions().isEmpty();
+        } catch (Exception e) {
+            log.warn("로그인 이력 파티션 정보 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private List<Partition> loadPartitions() {
+        return jdbcTemplate.query(PARTITIONS_SQL, (rs, rowNum) ->
+                new Partition(rs.getString("partition_name"), parseBound(rs.getString("partition_description"))));
+    }
+
+    /**
+     * RANGE COLUMNS 파티션 경계값 파싱 ('2026-11-01 00:00:00' 또는 MAXVALUE)
+     */
+    static LocalDateTime parseBound(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        return value.length() == 10
+                ? LocalDate.parse(value).atStartOfDay()
+                : LocalDateTime.parse(value, BOUND_FORMATTER);
+    }
+}
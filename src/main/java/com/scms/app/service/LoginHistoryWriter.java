@@ -0,0 +1,146 @@
+package com.scms.app.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 로그인 이력 비동기 저장기 (Write-Behind)
+ *
+ * 로그인 요청은 이력을 크기가 제한된 대기열에 넣기만 하고, 백그라운드 저장기가 주기적으로(그리고 종료 시)
+ * 대기열을 비우며 JDBC 배치 INSERT로 저장한다. 로그인 응답 시간은 사용자 조회와 비밀번호 확인에만 좌우된다.
+ * 대기열이 가득 차면 새 이력은 버리고 scms.login.history.dropped 카운터를 올린다 (로그인 자체는 막지 않음).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoginHistoryWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO login_history (user_id, login_at, ip_address, user_agent, is_success, fail_reason) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_IP_LENGTH = 45;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scms.login.history.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${scms.login.history.batch-size:500}")
+    private int batchSize;
+
+    private BlockingQueue<PendingLoginHistory> queue;
+    private Counter writtenCounter;
+    private Counter droppedCounter;
+    private Counter failedCounter;
+
+    /**
+     * 저장 대기 이력
+     */
+    private record PendingLoginHistory(Integer userId, LocalDateTime loginAt, String ipAddress,
+                                       String userAgent, boolean success, String failReason) {
+    }
+
+    @PostConstruct
+    public void init() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        writtenCounter = Counter.builder("scms.login.history.written")
+                .description("저장된 로그인 이력 수")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("scms.login.history.dropped")
+                .description("대기열 초과로 버린 로그인 이력 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("scms.login.history.failed")
+                .description("저장 실패로 유실된 로그인 이력 수")
+                .register(meterRegistry);
+        Gauge.builder("scms.login.history.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 로그인 이력 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 이력 저장 요청 (대기열에 넣고 바로 반환)
+     */
+    public void record(Integer userId, String ipAddress, String userAgent, boolean success, String failReason) {
+        PendingLoginHistory history = new PendingLoginHistory(userId, LocalDateTime.now(),
+                truncate(ipAddress, MAX_IP_LENGTH), truncate(userAgent, MAX_TEXT_LENGTH),
+                success, truncate(failReason, MAX_TEXT_LENGTH));
+
+        if (!queue.offer(history)) {
+            droppedCounter.increment();
+            log.warn("로그인 이력 대기열 초과: 사용자 ID {} 이력을 저장하지 않습니다", userId);
+        }
+    }
+
+    /**
+     * 저장 대기 중인 이력 수
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 대기열의 이력을 배치 INSERT로 저장
+     */
+    @Scheduled(fixedDelayString = "${scms.login.history.flush-interval-ms:1000}")
+    public void flush() {
+        List<PendingLoginHistory> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<PendingLoginHistory> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, history) -> {
+                ps.setInt(1, history.userId());
+                ps.setTimestamp(2, Timestamp.valueOf(history.loginAt()));
+                ps.setString(3, history.ipAddress());
+                ps.setString(4, history.userAgent());
+                ps.setBoolean(5, history.success());
+                ps.setString(6, history.failReason());
+            });
+            writtenCounter.increment(batch.size());
+            log.debug("로그인 이력 저장 완료: {}건", batch.size());
+        } catch (Exception e) {
+            // 이력은 감사용 부가 정보이므로 재시도하지 않음 (잘못된 행 하나로 대기열이 막히지 않도록)
+            failedCounter.increment(batch.size());
+            log.error("로그인 이력 저장 실패: {}건 유실", batch.size(), e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 이력 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!queue.isEmpty()) {
+            log.info("애플리케이션 종료: 대기 중인 로그인 이력 {}건을 저장합니다", queue.size());
+            flush();
+        }
+    }
+
+    private String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
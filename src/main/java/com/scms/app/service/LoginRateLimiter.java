@@ -0,0 +1,180 @@
+package com.scms.app.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.scms.app.exception.LoginRateLimitedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 제한기 (메모리 슬라이딩 윈도우)
+ *
+ * 학번별, IP별 로그인 실패 수를 슬라이딩 윈도우 카운터(직전 구간 가중치 + 현재 구간)로 센다.
+ * 한도를 넘은 요청은 사용자 조회와 BCrypt 비교 전에 429로 거절하므로, 크리덴셜 스터핑이 들어와도
+ * users 테이블 쓰기나 해시 계산이 늘지 않는다. 실패 횟수는 DB에 매번 쓰지 않고,
+ * 학번의 실패 수가 한도에 도달하면 UserService가 잠금만 저장한다 (잠금은 재기동/다른 인스턴스에도 유지).
+ *
+ * 카운터는 인스턴스 메모리에만 있으므로 재기동 시 초기화되며, 서버가 여러 대면 서버별로 제한된다.
+ * IP는 request.getRemoteAddr() 기준이며, 프록시 뒤에서는 server.forward-headers-strategy로 신뢰하는 프록시의
+ * X-Forwarded-For만 반영된다.
+ * 메트릭: scms.login.failures, scms.login.rate_limited (scope=ip|account), scms.login.rate_limiter.keys
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoginRateLimiter {
+
+    private static final String IP_PREFIX = "ip:";
+    private static final String ACCOUNT_PREFIX = "account:";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scms.security.login-rate-limit.ip-max-failures:300}")
+    private int ipMaxFailures;
+
+    @Value("${scms.security.login-rate-limit.ip-window-seconds:600}")
+    private long ipWindowSeconds;
+
+    @Value("${scms.security.login-rate-limit.account-max-failures:5}")
+    private int accountMaxFailures;
+
+    @Value("${scms.security.login-rate-limit.account-window-seconds:3600}")
+    private long accountWindowSeconds;
+
+    @Value("${scms.security.login-rate-limit.max-keys:100000}")
+    private long maxKeys;
+
+    private Cache<String, SlidingWindowCounter> counters;
+    private Counter failureCounter;
+    private Counter ipLimitedCounter;
+    private Counter accountLimitedCounter;
+
+    @PostConstruct
+    public void init() {
+        counters = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofSeconds(2 * Math.max(ipWindowSeconds, accountWindowSeconds)))
+                .build();
+
+        failureCounter = Counter.builder("scms.login.failures")
+                .description("로그인 실패 수")
+                .register(meterRegistry);
+        ipLimitedCounter = Counter.builder("scms.login.rate_limited")
+                .description("시도 제한으로 거절된 로그인 수")
+                .tag("scope", "ip")
+                .register(meterRegistry);
+        accountLimitedCounter = Counter.builder("scms.login.rate_limited")
+                .description("시도 제한으로 거절된 로그인 수")
+                .tag("scope", "account")
+                .register(meterRegistry);
+        Gauge.builder("scms.login.rate_limiter.keys", counters, cache -> cache.estimatedSize())
+                .description("추적 중인 학번/IP 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 허용 여부 확인 (사용자 조회 전에 호출)
+     *
+     * @throws LoginRateLimitedException IP 또는 학번의 실패 수가 한도에 도달한 경우
+     */
+    public void checkAllowed(Integer studentNum, String ipAddress) {
+        long now = System.currentTimeMillis();
+
+        SlidingWindowCounter ipCounter = counters.getIfPresent(IP_PREFIX + ipAddress);
+        if (ipCounter != null && ipCounter.estimate(now, ipWindowSeconds * 1000) >= ipMaxFailures) {
+            ipLimitedCounter.increment();
+            log.warn("로그인 시도 제한 (IP): {}", ipAddress);
+            throw new LoginRateLimitedException(ipCounter.retryAfterSeconds(now, ipWindowSeconds * 1000));
+        }
+
+        SlidingWindowCounter accountCounter = counters.getIfPresent(ACCOUNT_PREFIX + studentNum);
+        if (accountCounter != null
+                && accountCounter.estimate(now, accountWindowSeconds * 1000) >= accountMaxFailures) {
+            accountLimitedCounter.increment();
+            log.warn("로그인 시도 제한 (학번): {}", studentNum);
+            throw new LoginRateLimitedException(accountCounter.retryAfterSeconds(now, accountWindowSeconds * 1000));
+        }
+    }
+
+    /**
+     * 로그인 실패 기록
+     *
+     * @param studentNum 존재하는 계정의 학번 (존재하지 않는 학번이면 null, IP만 집계)
+     * @return 학번의 윈도우 내 실패 수 (studentNum이 null이면 0)
+     */
+    public int recordFailure(Integer studentNum, String ipAddress) {
+        long now = System.currentTimeMillis();
+        failureCounter.increment();
+        counters.get(IP_PREFIX + ipAddress, key -> new SlidingWindowCounter())
+                .increment(now, ipWindowSeconds * 1000);
+        if (studentNum == null) {
+            return 0;
+        }
+        return counters.get(ACCOUNT_PREFIX + studentNum, key -> new SlidingWindowCounter())
+                .increment(now, accountWindowSeconds * 1000);
+    }
+
+    /**
+     * 학번 실패 기록 초기화 (로그인 성공, 잠금 해제, 비밀번호 재설정 시)
+     */
+    public void reset(Integer studentNum) {
+        counters.invalidate(ACCOUNT_PREFIX + studentNum);
+    }
+
+    /**
+     * 계정 잠금 기준 실패 수
+     */
+    public int getAccountMaxFailures() {
+        return accountMaxFailures;
+    }
+
+    /**
+     * 슬라이딩 윈도우 카운터
+     * - 직전 고정 구간의 수를 현재 구간 경과 비율만큼 줄여 더하는 근사 방식 (키당 상태 3개)
+     */
+    static final class SlidingWindowCounter {
+
+        private long windowStart;
+        private int previous;
+        private int current;
+
+        synchronized int increment(long now, long windowMillis) {
+            roll(now, windowMillis);
+            current++;
+            return estimate(now, windowMillis);
+        }
+
+        synchronized int estimate(long now, long windowMillis) {
+            roll(now, windowMillis);
+            double previousWeight = 1.0 - (double) (now - windowStart) / windowMillis;
+            return (int) Math.ceil(previous * previousWeight) + current;
+        }
+
+        synchronized long retryAfterSeconds(long now, long windowMillis) {
+            roll(now, windowMillis);
+            return Math.max(1, (windowStart + windowMillis - now) / 1000 + 1);
+        }
+
+        private void roll(long now, long windowMillis) {
+            if (windowStart == 0) {
+                windowStart = now;
+                return;
+            }
+            long elapsedWindows = (now - windowStart) / windowMillis;
+            if (elapsedWindows == 0) {
+                return;
+            }
+            previous = elapsedWindows == 1 ? current : 0;
+            current = 0;
+            windowStart += elapsedWindows * windowMillis;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.scms.app.service;
+
+import com.scms.app.exception.PasswordVerificationBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 확인 전용 실행기
+ *
+ * BCrypt 비교는 CPU를 많이 쓰므로 크기가 제한된 전용 스레드 풀에서만 실행한다.
+ * 학기 초처럼 로그인이 몰려도 해시 계산이 모든 코어를 점유해 페이지 렌더링이 밀리지 않으며,
+ * 대기열이 가득 차면 기다리게 하지 않고 바로 503(Retry-After)으로 응답한다.
+ *
+ * 시작된 BCrypt 계산은 인터럽트로 중단되지 않으므로 요청 측 타임아웃으로 끊지 않는다.
+ * 대신 측정된 평균 해시 시간으로 예상 대기 시간을 계산해 max-wait-ms를 넘으면 등록 전에 거절하고,
+ * 등록 후 max-wait-ms보다 오래 기다린 작업은 해시 계산을 시작하지 않고 거절한다.
+ * 따라서 한 요청의 최대 지연은 max-wait-ms + 해시 1회 시간이며, 버려진 계산이 스레드를 차지하지 않는다.
+ *
+ * 로그인 시 해시 갱신은 실제로 약한 해시만 대상으로 한다. 접두사 없는 기존 BCrypt 해시라도 cost가 현재 설정 이상이면
+ * 다시 계산하지 않고 {bcrypt} 접두사만 붙이며, cost가 낮거나 방식이 다른 해시는 대기열이 비어 있을 때만 다시 해시한다.
+ * 로그인이 몰리는 동안에는 갱신을 미루고 이후 로그인에서 처리하므로 해시 비용이 두 배가 되지 않는다.
+ *
+ * 메트릭: scms.password.verify (해시 비교 시간), scms.password.queue.wait (대기열 대기 시간),
+ * scms.password.queue.depth (대기 중인 요청 수), scms.password.rejected (거절 수),
+ * scms.password.upgraded (로그인 시 다시 해시한 수), scms.password.upgrade.deferred (부하로 갱신을 미룬 수)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordVerifier {
+
+    /**
+     * 접두사 없는 BCrypt 해시 ($2a$10$... 형식, 그룹 1은 cost)
+     */
+    private static final Pattern LEGACY_BCRYPT = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scms.security.password.encoding-id:bcrypt}")
+    private String encodingId;
+
+    @Value("${scms.security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${scms.security.password-verifier.threads:0}")
+    private int threads;
+
+    @Value("${scms.security.password-verifier.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${scms.security.password-verifier.max-wait-ms:3000}")
+    private long maxWaitMs;
+
+    @Value("${scms.security.password-verifier.retry-after-seconds:2}")
+    private long retryAfterSeconds;
+
+    private int poolSize;
+    private ThreadPoolExecutor executor;
+    private Timer verifyTimer;
+    private Timer queueWaitTimer;
+    private Counter rejectedCounter;
+    private Counter upgradedCounter;
+    private Counter upgradeDeferredCounter;
+
+    @PostConstruct
+    public void init() {
+        // 0이면 코어의 절반만 사용 (나머지는 요청 처리/렌더링용)
+        poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verify-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        verifyTimer = Timer.builder("scms.password.verify")
+                .description("비밀번호 해시 비교 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        queueWaitTimer = Timer.builder("scms.password.queue.wait")
+                .description("비밀번호 확인 대기열 대기 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("scms.password.rejected")
+                .description("대기열 초과로 거절된 비밀번호 확인 요청 수")
+                .register(meterRegistry);
+        upgradedCounter = Counter.builder("scms.password.upgraded")
+                .description("로그인 시 현재 방식/cost로 다시 해시한 비밀번호 수")
+                .register(meterRegistry);
+        upgradeDeferredCounter = Counter.builder("scms.password.upgrade.deferred")
+                .description("대기 중인 요청이 있어 로그인 시 해시 갱신을 미룬 수")
+                .register(meterRegistry);
+        Gauge.builder("scms.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("대기 중인 비밀번호 확인 요청 수")
+                .register(meterRegistry);
+
+        log.info("비밀번호 확인 실행기 초기화: 스레드 {}개, 대기열 {}, 최대 대기 {}ms", poolSize, queueCapacity, maxWaitMs);
+    }
+
+    /**
+     * 비밀번호 확인 결과
+     *
+     * @param upgradedPassword 저장할 갱신된 해시 (접두사만 붙인 기존 해시 또는 다시 해시한 값, 필요 없거나 미뤘으면 null)
+     */
+    public record Verification(boolean matched, String upgradedPassword) {
+    }
+
+    /**
+     * 비밀번호 비교 (전용 스레드 풀에서 실행)
+     *
+     * @throws PasswordVerificationBusyException 예상 대기 시간이 너무 길거나 대기열이 가득 찬 경우
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 새 비밀번호 해시 (전용 스레드 풀에서 실행, 트랜잭션을 열기 전에 호출)
+     *
+     * @throws PasswordVerificationBusyException 예상 대기 시간이 너무 길거나 대기열이 가득 찬 경우
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 비교 후 필요하면 해시 갱신 (로그인용, 한 번의 대기열 작업으로 처리)
+     * - cost가 충분한 기존 BCrypt 해시는 접두사만 붙이고, 실제로 약한 해시는 대기열이 비어 있을 때만 다시 해시
+     *
+     * @throws PasswordVerificationBusyException 예상 대기 시간이 너무 길거나 대기열이 가득 찬 경우
+     */
+    public Verification verifyAndUpgrade(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return new Verification(false, null);
+            }
+            if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+                return new Verification(true, null);
+            }
+            String prefixed = prefixLegacyBcrypt(encodedPassword);
+            if (prefixed != null) {
+                return new Verification(true, prefixed);
+            }
+            if (!executor.getQueue().isEmpty()) {
+                // 로그인이 몰리는 중이면 다음 로그인으로 미룸
+                upgradeDeferredCounter.increment();
+                return new Verification(true, null);
+            }
+            upgradedCounter.increment();
+            return new Verification(true, passwordEncoder.encode(rawPassword));
+        });
+    }
+
+    private <T> T execute(Callable<T> task) {
+        if (expectedWaitMs() > maxWaitMs) {
+            rejectedCounter.increment();
+            throw new PasswordVerificationBusyException(retryAfterSeconds);
+        }
+
+        long enqueuedAt = System.nanoTime();
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                queueWaitTimer.record(waited, TimeUnit.NANOSECONDS);
+                if (waited > maxWaitNanos) {
+                    // 이미 오래 기다린 요청은 해시 계산을 시작하지 않음
+                    throw new PasswordVerificationBusyException(retryAfterSeconds);
+                }
+                return verifyTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordVerificationBusyException(retryAfterSeconds);
+        }
+
+        try {
+            // 시작된 해시 계산은 중단할 수 없으므로 끝날 때까지 기다림 (최대 max-wait-ms + 해시 1회)
+            return result.get();
+        } catch (InterruptedException e) {
+            // 아직 시작하지 않은 작업만 취소됨
+            result.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordVerificationBusyException(retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PasswordVerificationBusyException busy) {
+                rejectedCounter.increment();
+                throw busy;
+            }
+            throw new IllegalStateException("비밀번호 확인에 실패했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 접두사 없는 BCrypt 해시의 cost가 현재 설정 이상이면 {bcrypt} 접두사를 붙인 값 (다시 해시할 필요 없음)
+     *
+     * @return 접두사만 붙이면 되는 경우 그 값, 아니면 null
+     */
+    private String prefixLegacyBcrypt(String encodedPassword) {
+        if (!"bcrypt".equals(encodingId) || encodedPassword == null) {
+            return null;
+        }
+        Matcher matcher = LEGACY_BCRYPT.matcher(encodedPassword);
+        if (!matcher.matches() || Integer.parseInt(matcher.group(1)) < bcryptStrength) {
+            return null;
+        }
+        return BCRYPT_PREFIX + encodedPassword;
+    }
+
+    /**
+     * 지금 등록하면 예상되는 대기 시간 (대기 중인 작업 수 × 평균 해시 시간 / 스레드 수)
+     * - 아직 측정값이 없으면 0
+     */
+    private double expectedWaitMs() {
+        double meanVerifyMs = verifyTimer.mean(TimeUnit.MILLISECONDS);
+        return executor.getQueue().size() * meanVerifyMs / poolSize;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,9 +1,10 @@
 package com.scms.app.service;
 
+import com.scms.app.dto.ApplicationStatusRow;
+import com.scms.app.dto.SessionUser;
 import com.scms.app.model.ApplicationStatus;
 import com.scms.app.model.Program;
 import com.scms.app.model.ProgramApplication;
-import com.scms.app.model.User;
 import com.scms.app.repository.ProgramApplicationRepository;
 import com.scms.app.repository.ProgramRepository;
 import com.scms.app.repository.UserRepository;
@@ -13,10 +14,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * 프로그램 신청 관리 Service
+ * - 참가자 수는 SeatReservationService의 id 기반 원자적 UPDATE로만 변경하고, 한 트랜잭션 안에서 같은 행을 다시 조회하지 않음
+ * - 일괄 승인/거부/완료는 상태 확인 1회, 집합 UPDATE 1회, (거부 시) 프로그램별 좌석 반환 1회로 처리
+ * - 작업별 SQL 문 수는 ProgramApplicationStatementCountTest에서 검증
  */
 @Service
 @Transactional(readOnly = true)
@@ -24,19 +33,28 @@ import java.util.List;
 @Slf4j
 public class ProgramApplicationService {
 
+    /**
+     * 일괄 처리 1회 최대 신청 수 (IN 목록 크기 제한)
+     */
+    public static final int MAX_BULK_SIZE = 1000;
+
     private final ProgramApplicationRepository applicationRepository;
     private final ProgramRepository programRepository;
     private final UserRepository userRepository;
-    private final ProgramService programService;
+    private final SeatReservationService seatReservationService;
+    private final UserSnapshotService userSnapshotService;
 
     /**
      * 프로그램 신청
+     * - 고수요 모드 또는 파이프라인 사용 시에는 ApplicationPipeline이 처리함
      */
     @Transactional
     public ProgramApplication applyProgram(Integer userId, Integer programId) {
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: ID " + userId));
+        // 사용자 확인 (스냅샷 캐시, users 행은 다시 읽지 않고 참조만 연결)
+        SessionUser user = userSnapshotService.getSnapshot(userId);
+        if (user == null) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: ID " + userId);
+        }
 
         // 프로그램 조회
         Program program = programRepository.findById(programId)
@@ -61,15 +79,18 @@ public class ProgramApplicationService {
         // 신청 생성
         ProgramApplication application = ProgramApplication.builder()
                 .program(program)
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .status(ApplicationStatus.PENDING)
                 .appliedAt(LocalDateTime.now())
                 .build();
 
         ProgramApplication savedApplication = applicationRepository.save(application);
 
-        // 프로그램 참가자 수 증가
-        programService.incrementParticipants(programId);
+        // 좌석 예약 (조건부 원자적 UPDATE, 실패 시 신청 저장까지 롤백)
+        // 행 잠금 유지 시간을 줄이기 위해 트랜잭션의 마지막 단계에서 수행
+        if (!seatReservationService.reserve(programId)) {
+            throw new IllegalStateException("프로그램 정원이 마감되었습니다.");
+        }
 
         log.info("프로그램 신청 완료: 사용자 {} ({}), 프로그램 {} ({})",
                 user.getName(), userId, program.getTitle(), programId);
@@ -99,11 +120,10 @@ public class ProgramApplicationService {
         application.cancel();
         applicationRepository.save(application);
 
-        // 프로그램 참가자 수 감소
-        programService.decrementParticipants(application.getProgram().getProgramId());
+        // 좌석 반환
+        seatReservationService.release(application.getProgram().getProgramId(), 1);
 
-        log.info("프로그램 신청 취소 완료: 사용자 {}, 신청 ID {}",
-                application.getUser().getName(), applicationId);
+        log.info("프로그램 신청 취소 완료: 사용자 ID {}, 신청 ID {}", userId, applicationId);
     }
 
     /**
@@ -143,8 +163,8 @@ public class ProgramApplicationService {
         application.approve();
         applicationRepository.save(application);
 
-        log.info("프로그램 신청 승인 완료: 신청 ID {}, 사용자 {}",
-                applicationId, application.getUser().getName());
+        log.info("프로그램 신청 승인 완료: 신청 ID {}, 사용자 ID {}",
+                applicationId, application.getUser().getUserId());
     }
 
     /**
@@ -162,11 +182,11 @@ public class ProgramApplicationService {
         application.reject(reason);
         applicationRepository.save(application);
 
-        // 프로그램 참가자 수 감소
-        programService.decrementParticipants(application.getProgram().getProgramId());
+        // 좌석 반환
+        seatReservationService.release(application.getProgram().getProgramId(), 1);
 
-        log.info("프로그램 신청 거부 완료: 신청 ID {}, 사용자 {}, 사유: {}",
-                applicationId, application.getUser().getName(), reason);
+        log.info("프로그램 신청 거부 완료: 신청 ID {}, 사용자 ID {}, 사유: {}",
+                applicationId, application.getUser().getUserId(), reason);
     }
 
     /**
@@ -184,8 +204,120 @@ public class ProgramApplicationService {
         application.complete();
         applicationRepository.save(application);
 
-        log.info("프로그램 참여 완료 처리: 신청 ID {}, 사용자 {}",
-                applicationId, application.getUser().getName());
+        log.info("프로그램 참여 완료 처리: 신청 ID {}, 사용자 ID {}",
+                applicationId, application.getUser().getUserId());
+    }
+
+    /**
+     * 신청 일괄 승인 (관리자용)
+     * - 한 건이라도 대기 상태가 아니면 전체를 처리하지 않음
+     *
+     * @return 승인된 신청 수
+     */
+    @Transactional
+    public int approveApplications(List<Integer> applicationIds) {
+        Set<Integer> ids = toBulkIds(applicationIds);
+        checkBulkStatus(ids, ApplicationStatus.PENDING, "대기 중인 신청만 승인할 수 있습니다.");
+
+        int approved = applicationRepository.approvePending(ids, LocalDateTime.now());
+        checkBulkUpdated(ids, approved);
+
+        log.info("프로그램 신청 일괄 승인 완료: {}건", approved);
+        return approved;
+    }
+
+    /**
+     * 신청 일괄 거부 (관리자용)
+     * - 좌석은 프로그램별로 합산하여 프로그램당 한 번만 반환
+     *
+     * @return 거부된 신청 수
+     */
+    @Transactional
+    public int rejectApplications(List<Integer> applicationIds, String reason) {
+        Set<Integer> ids = toBulkIds(applicationIds);
+        List<ApplicationStatusRow> rows =
+                checkBulkStatus(ids, ApplicationStatus.PENDING, "대기 중인 신청만 거부할 수 있습니다.");
+
+        int rejected = applicationRepository.rejectPending(ids, reason, LocalDateTime.now());
+        checkBulkUpdated(ids, rejected);
+
+        // 좌석 반환 (프로그램 ID 순으로 갱신하여 동시 일괄 거부 간 행 잠금 순서를 맞춤)
+        Map<Integer, Long> releaseCounts = rows.stream()
+                .collect(Collectors.groupingBy(ApplicationStatusRow::getProgramId, TreeMap::new,
+                        Collectors.counting()));
+        releaseCounts.forEach((programId, count) -> seatReservationService.release(programId, count.intValue()));
+
+        log.info("프로그램 신청 일괄 거부 완료: {}건, 프로그램 {}개, 사유: {}",
+                rejected, releaseCounts.size(), reason);
+        return rejected;
+    }
+
+    /**
+     * 참여 일괄 완료 처리 (관리자용)
+     * - 한 건이라도 승인 상태가 아니면 전체를 처리하지 않음
+     *
+     * @return 완료 처리된 신청 수
+     */
+    @Transactional
+    public int completeApplications(List<Integer> applicationIds) {
+        Set<Integer> ids = toBulkIds(applicationIds);
+        checkBulkStatus(ids, ApplicationStatus.APPROVED, "승인된 신청만 완료 처리할 수 있습니다.");
+
+        int completed = applicationRepository.completeApproved(ids, LocalDateTime.now());
+        checkBulkUpdated(ids, completed);
+
+        log.info("프로그램 참여 일괄 완료 처리: {}건", completed);
+        return completed;
+    }
+
+    /**
+     * 일괄 처리 대상 ID 검증 및 정리 (null ID는 잘못된 요청, 중복 제거, 개수 제한)
+     */
+    private Set<Integer> toBulkIds(List<Integer> applicationIds) {
+        if (applicationIds == null || applicationIds.isEmpty()) {
+            throw new IllegalArgumentException("처리할 신청을 선택해주세요.");
+        }
+        Set<Integer> ids = new LinkedHashSet<>(applicationIds);
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException("신청 ID가 올바르지 않습니다.");
+        }
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_SIZE + "건까지 처리할 수 있습니다.");
+        }
+        return ids;
+    }
+
+    /**
+     * 일괄 처리 대상의 존재 여부와 현재 상태를 한 번의 조회로 확인
+     */
+    private List<ApplicationStatusRow> checkBulkStatus(Set<Integer> ids, ApplicationStatus expected,
+                                                       String message) {
+        List<ApplicationStatusRow> rows = applicationRepository.findStatusRowsByIds(ids);
+
+        if (rows.size() != ids.size()) {
+            Set<Integer> missing = new LinkedHashSet<>(ids);
+            rows.forEach(row -> missing.remove(row.getApplicationId()));
+            throw new IllegalArgumentException("신청 내역을 찾을 수 없습니다: ID " + missing);
+        }
+
+        List<Integer> invalid = rows.stream()
+                .filter(row -> row.getStatus() != expected)
+                .map(ApplicationStatusRow::getApplicationId)
+                .sorted()
+                .toList();
+        if (!invalid.isEmpty()) {
+            throw new IllegalStateException(message + " (신청 ID " + invalid + ")");
+        }
+        return rows;
+    }
+
+    /**
+     * 확인 이후 다른 요청이 상태를 바꿔 갱신되지 않은 행이 있으면 전체 롤백
+     */
+    private void checkBulkUpdated(Set<Integer> ids, int updated) {
+        if (updated != ids.size()) {
+            throw new IllegalStateException("처리 중 상태가 변경된 신청이 있습니다. 다시 시도해주세요.");
+        }
     }
 
     /**
@@ -0,0 +1,65 @@
+package com.scms.app.service;
+
+import com.scms.app.config.CacheConfig;
+import com.scms.app.dto.ProgramFacets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 프로그램 필터 항목별 개수 집계 Service
+ * - 세 가지 필터의 GROUP BY 집계와 전체 수를 UNION ALL 한 번의 쿼리로 조회
+ * - 결과는 프로그램 목록 캐시에 함께 저장되어 프로그램 생성/수정/삭제와 정원 마감/재개(FULL/OPEN 전환) 시 무효화됨
+ *   (집계 기준이 프로그램 수이므로 신청/취소로 참가자 수만 바뀌는 경우에는 무효화하지 않음)
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ProgramFacetService {
+
+    private static final String TOTAL = "total";
+
+    private static final String FACET_SQL =
+            "SELECT '" + ProgramFacets.DEPARTMENT + "' AS facet, department AS facet_key, COUNT(*) AS cnt FROM programs " +
+            "WHERE deleted_at IS NULL AND department IS NOT NULL GROUP BY department " +
+            "UNION ALL " +
+            "SELECT '" + ProgramFacets.COLLEGE + "', college, COUNT(*) FROM programs " +
+            "WHERE deleted_at IS NULL AND college IS NOT NULL GROUP BY college " +
+            "UNION ALL " +
+            "SELECT '" + ProgramFacets.CATEGORY + "', category, COUNT(*) FROM programs " +
+            "WHERE deleted_at IS NULL GROUP BY category " +
+            "UNION ALL " +
+            "SELECT '" + TOTAL + "', NULL, COUNT(*) FROM programs WHERE deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 필터 항목별 프로그램 수 조회
+     */
+    @Cacheable(cacheNames = CacheConfig.PROGRAM_CATALOG, key = "'facets'")
+    public ProgramFacets getFacets() {
+        Map<String, Map<String, Long>> counts = new HashMap<>();
+        long[] total = {0};
+
+        jdbcTemplate.query(FACET_SQL, rs -> {
+            String facet = rs.getString("facet");
+            long count = rs.getLong("cnt");
+            if (TOTAL.equals(facet)) {
+                total[0] = count;
+            } else {
+                counts.computeIfAbsent(facet, f -> new LinkedHashMap<>()).put(rs.getString("facet_key"), count);
+            }
+        });
+
+        log.debug("프로그램 필터 집계 완료: 전체 {}건", total[0]);
+        return new ProgramFacets(total[0], counts);
+    }
+}
@@ -0,0 +1,96 @@
+package com.scms.app.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로그램 조회수 누적기 (Write-Behind)
+ *
+ * 상세 페이지 조회마다 programs 행을 갱신하지 않고 프로그램별 LongAdder에 누적한 뒤,
+ * 주기적으로(그리고 종료 시) 누적분을 한 번의 배치 UPDATE로 반영한다.
+ * 화면에 표시되는 조회수는 최대 flush 주기만큼 늦게 반영될 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProgramHitCounter {
+
+    private static final String FLUSH_SQL = "UPDATE programs SET hits = hits + ? WHERE program_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Integer, LongAdder> pendingHits = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리 누적)
+     */
+    public void increment(Integer programId) {
+        pendingHits.computeIfAbsent(programId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPendingHits(Integer programId) {
+        LongAdder adder = pendingHits.get(programId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 누적된 조회수를 DB에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${scms.program.hits.flush-interval-ms:5000}")
+    public void flush() {
+        if (pendingHits.isEmpty()) {
+            return;
+        }
+
+        // program_id 순으로 정렬하여 배치 간 행 잠금 순서를 일정하게 유지
+        List<Object[]> batchArgs = new ArrayList<>();
+        pendingHits.keySet().stream().sorted().forEach(programId -> {
+            LongAdder adder = pendingHits.get(programId);
+            if (adder == null) {
+                return;
+            }
+            // 항목은 제거하지 않는다 (제거와 동시에 증가하면 조회수가 유실될 수 있음, 항목 수는 프로그램 수로 제한됨)
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                batchArgs.add(new Object[]{delta, programId});
+            }
+        });
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            log.debug("프로그램 조회수 반영 완료: {}개 프로그램", batchArgs.size());
+        } catch (Exception e) {
+            // 반영 실패 시 누적분을 되돌려 다음 주기에 재시도
+            for (Object[] args : batchArgs) {
+                pendingHits.computeIfAbsent((Integer) args[1], id -> new LongAdder()).add((Long) args[0]);
+            }
+            log.error("프로그램 조회수 반영 실패: {}개 프로그램, 다음 주기에 재시도합니다", batchArgs.size(), e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("애플리케이션 종료: 남은 프로그램 조회수를 반영합니다");
+        flush();
+    }
+}
@@ -2,11 +2,11 @@ package com.scms.app.service;
 
 import com.scms.app.dto.ReviewRequest;
 import com.scms.app.dto.ReviewResponse;
+import com.scms.app.dto.SessionUser;
 import com.scms.app.model.ApplicationStatus;
 import com.scms.app.model.Program;
 import com.scms.app.model.ProgramApplication;
 import com.scms.app.model.ProgramReview;
-import com.scms.app.model.User;
 import com.scms.app.repository.ProgramApplicationRepository;
 import com.scms.app.repository.ProgramRepository;
 import com.scms.app.repository.ProgramReviewRepository;
@@ -33,6 +33,7 @@ public class ProgramReviewService {
     private final ProgramRepository programRepository;
     private final UserRepository userRepository;
     private final ProgramApplicationRepository applicationRepository;
+    private final UserSnapshotService userSnapshotService;
 
     /**
      * 후기 작성 (참여 완료한 사용자만 가능)
@@ -42,9 +43,11 @@ public class ProgramReviewService {
         // 유효성 검증
         request.validate();
 
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
+        // 사용자 확인 (스냅샷 캐시, users 행은 다시 읽지 않고 참조만 연결)
+        SessionUser author = userSnapshotService.getSnapshot(userId);
+        if (author == null) {
+            throw new IllegalStateException("사용자를 찾을 수 없습니다.");
+        }
 
         // 프로그램 조회
         Program program = programRepository.findByIdNotDeleted(programId)
@@ -64,7 +67,7 @@ public class ProgramReviewService {
         // 후기 생성
         ProgramReview review = ProgramReview.builder()
                 .program(program)
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .rating(request.getRating())
                 .content(request.getContent())
                 .imageUrl(request.getImageUrl())
@@ -74,7 +77,7 @@ public class ProgramReviewService {
         log.info("후기 작성 완료: reviewId={}, userId={}, programId={}, rating={}",
                 review.getReviewId(), userId, programId, request.getRating());
 
-        return ReviewResponse.from(review, userId);
+        return ReviewResponse.from(review, author);
     }
 
     /**
@@ -0,0 +1,136 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.ProgramCardResponse;
+import com.scms.app.model.ProgramStatus;
+import com.scms.app.repository.ProgramRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 프로그램 검색 Service
+ *
+ * MySQL에서는 title/description/category/department에 대한 ngram FULLTEXT 인덱스로
+ * MATCH ... AGAINST 관련도 순으로 검색한다. 인덱스는 database/program_search_fulltext.sql로 만들며,
+ * 애플리케이션은 기동 시 존재 여부만 확인한다 (운영 DB에 DDL을 실행하지 않음).
+ * 인덱스를 사용할 수 없는 환경(H2 테스트 DB 등)이나 ngram 토큰보다 짧은 검색어는 LIKE 검색으로 처리한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ProgramSearchService {
+
+    public static final String FULLTEXT_INDEX_NAME = "ft_programs_search";
+
+    public static final String MATCH_CLAUSE =
+            "MATCH(title, description, category, department) AGAINST (? IN NATURAL LANGUAGE MODE)";
+
+    private static final String SEARCH_SQL =
+            "SELECT program_id, title, department, category, sub_category, " +
+            "application_start_date, application_end_date, max_participants, current_participants, " +
+            "hits, status, content IS NOT NULL AS has_content, created_at, " + MATCH_CLAUSE + " AS score " +
+            "FROM programs WHERE deleted_at IS NULL AND " + MATCH_CLAUSE + " " +
+            "ORDER BY score DESC, created_at DESC LIMIT ? OFFSET ?";
+
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM programs WHERE deleted_at IS NULL AND " + MATCH_CLAUSE;
+
+    private static final RowMapper<ProgramCardResponse> CARD_ROW_MAPPER = (rs, rowNum) -> new ProgramCardResponse(
+            rs.getInt("program_id"),
+            rs.getString("title"),
+            rs.getString("department"),
+            rs.getString("category"),
+            rs.getString("sub_category"),
+            toLocalDateTime(rs.getTimestamp("application_start_date")),
+            toLocalDateTime(rs.getTimestamp("application_end_date")),
+            rs.getObject("max_participants", Integer.class),
+            rs.getInt("current_participants"),
+            rs.getInt("hits"),
+            ProgramStatus.valueOf(rs.getString("status")),
+            rs.getBoolean("has_content"),
+            toLocalDateTime(rs.getTimestamp("created_at")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProgramRepository programRepository;
+
+    @Value("${scms.program.search.fulltext-enabled:true}")
+    private boolean fullTextConfigured;
+
+    @Value("${scms.program.search.min-token-length:2}")
+    private int minTokenLength;
+
+    private volatile boolean fullTextAvailable;
+
+    /**
+     * 기동 시 FULLTEXT 인덱스 확인 (MySQL 전용, 없으면 LIKE 검색)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIndex() {
+        if (!fullTextConfigured) {
+            log.info("프로그램 FULLTEXT 검색 비활성화: LIKE 검색 사용");
+            return;
+        }
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if (!"MySQL".equalsIgnoreCase(product)) {
+                log.info("프로그램 FULLTEXT 검색 미지원 DB ({}): LIKE 검색 사용", product);
+                return;
+            }
+
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'programs' AND index_name = ?",
+                    Integer.class, FULLTEXT_INDEX_NAME);
+            if (existing == null || existing == 0) {
+                log.warn("프로그램 FULLTEXT 인덱스 {} 없음, LIKE 검색 사용 (database/program_search_fulltext.sql 실행 필요)",
+                        FULLTEXT_INDEX_NAME);
+                return;
+            }
+            fullTextAvailable = true;
+            log.info("프로그램 FULLTEXT 검색 사용");
+        } catch (Exception e) {
+            log.warn("프로그램 FULLTEXT 인덱스 확인 실패, LIKE 검색 사용: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 프로그램 검색 (관련도순)
+     */
+    public Page<ProgramCardResponse> search(String keyword, int page, int size) {
+        String trimmed = keyword.trim();
+        Pageable pageable = PageRequest.of(page, size);
+
+        if (!fullTextAvailable || trimmed.length() < minTokenLength) {
+            return programRepository.searchCards(trimmed, pageable);
+        }
+
+        Long total = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, trimmed);
+        if (total == null || total == 0) {
+            return Page.empty(pageable);
+        }
+        List<ProgramCardResponse> content = jdbcTemplate.query(SEARCH_SQL, CARD_ROW_MAPPER,
+                trimmed, trimmed, pageable.getPageSize(), pageable.getOffset());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
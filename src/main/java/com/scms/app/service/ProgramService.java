@@ -1,23 +1,31 @@
 package com.scms.app.service;
 
+import com.scms.app.config.CacheConfig;
+import com.scms.app.dto.ProgramCardResponse;
+import com.scms.app.dto.ProgramCursor;
 import com.scms.app.model.Program;
 import com.scms.app.model.ProgramStatus;
 import com.scms.app.repository.ProgramRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 프로그램 관리 Service
+ * - 목록 조회는 CacheConfig.PROGRAM_CATALOG 캐시를 사용하며, 생성/수정/삭제 및 정원 마감/재개 시 무효화됨
+ *   (참가자 수만 바뀐 경우는 캐시 TTL 이내로 늦게 반영)
  */
 @Service
 @Transactional(readOnly = true)
@@ -25,23 +33,28 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ProgramService {
 
+    private static final int MAIN_PAGE_SIZE = 8;
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "programId");
+
     private final ProgramRepository programRepository;
+    private final ProgramHitCounter programHitCounter;
+    private final HighDemandSeatCounter highDemandSeatCounter;
+    private final ProgramSearchService programSearchService;
 
     /**
      * 모든 프로그램 조회
      */
-    public List<Program> getAllPrograms() {
-        return programRepository.findAllNotDeleted();
+    @Cacheable(cacheNames = CacheConfig.PROGRAM_CATALOG, key = "'all'")
+    public List<ProgramCardResponse> getAllPrograms() {
+        return programRepository.findAllCards();
     }
 
     /**
      * 메인 페이지용 최신 프로그램 조회 (상위 8개)
      */
-    public List<Program> getMainPagePrograms() {
-        List<Program> programs = programRepository.findAllNotDeleted();
-        return programs.stream()
-                .limit(8)
-                .collect(Collectors.toList());
+    @Cacheable(cacheNames = CacheConfig.PROGRAM_CATALOG, key = "'main'")
+    public List<ProgramCardResponse> getMainPagePrograms() {
+        return programRepository.findLatestCards(PageRequest.of(0, MAIN_PAGE_SIZE));
     }
 
     /**
@@ -54,12 +67,11 @@ public class ProgramService {
 
     /**
      * 프로그램 조회 (조회수 증가)
+     * - 조회수는 ProgramHitCounter에 누적되었다가 주기적으로 일괄 반영되므로 읽기 전용 트랜잭션으로 처리
      */
-    @Transactional
     public Program getProgramWithHitIncrement(Integer programId) {
         Program program = getProgram(programId);
-        program.incrementHits();
-        programRepository.save(program);
+        programHitCounter.increment(programId);
         return program;
     }
 
@@ -108,47 +120,65 @@ public class ProgramService {
     /**
      * 인기 프로그램 조회 (조회수 기준 상위 8개)
      */
-    public List<Program> getPopularPrograms() {
-        return programRepository.findPopularPrograms().stream()
-                .limit(8)
-                .collect(Collectors.toList());
+    @Cacheable(cacheNames = CacheConfig.PROGRAM_CATALOG, key = "'popular'")
+    public List<ProgramCardResponse> getPopularPrograms() {
+        return programRepository.findPopularCards(PageRequest.of(0, MAIN_PAGE_SIZE));
     }
 
     /**
      * 복합 필터로 프로그램 조회
      */
-    public List<Program> getProgramsByFilters(String department, String college, String category) {
-        return programRepository.findByFilters(department, college, category);
+    @Cacheable(cacheNames = CacheConfig.PROGRAM_CATALOG, key = "{'filters', #department, #college, #category}")
+    public List<ProgramCardResponse> getProgramsByFilters(String department, String college, String category) {
+        return programRepository.findCardsByFilters(department, college, category);
+    }
+
+    /**
+     * 복합 필터로 프로그램 조회 with 페이지네이션 (전체 수는 countPrograms로 별도 조회)
+     */
+    @Cacheable(cacheNames = CacheConfig.PROGRAM_CATALOG, key = "{'filters', #department, #college, #category, #page, #size}")
+    public Slice<ProgramCardResponse> getProgramsByFiltersWithPagination(String department, String college, String category, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, LATEST_FIRST);
+        return programRepository.findCardsByFilters(department, college, category, pageable);
     }
 
     /**
-     * 복합 필터로 프로그램 조회 with 페이지네이션
+     * 복합 필터로 프로그램 조회 with 커서 (keyset 페이지네이션)
+     *
+     * @param cursor 이전 페이지 마지막 카드의 커서 토큰
+     * @param page   화면에 표시할 페이지 번호
      */
-    public Page<Program> getProgramsByFiltersWithPagination(String department, String college, String category, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return programRepository.findByFiltersWithPagination(department, college, category, pageable);
+    public Slice<ProgramCardResponse> getProgramsByFiltersAfterCursor(String department, String college, String category,
+                                                                      String cursor, int page, int size) {
+        ProgramCursor position = ProgramCursor.decode(cursor);
+        List<ProgramCardResponse> cards = programRepository.findCardsByFiltersAfter(department, college, category,
+                position.getCreatedAt(), position.getProgramId(), PageRequest.of(0, size + 1));
+
+        boolean hasNext = cards.size() > size;
+        return new SliceImpl<>(hasNext ? cards.subList(0, size) : cards, PageRequest.of(page, size), hasNext);
     }
 
     /**
-     * 제목으로 프로그램 검색 with 페이지네이션
+     * 복합 필터 프로그램 수 (목록 캐시와 함께 무효화)
      */
-    public Page<Program> searchProgramsByTitleWithPagination(String keyword, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return programRepository.searchByTitleWithPagination(keyword, pageable);
+    @Cacheable(cacheNames = CacheConfig.PROGRAM_CATALOG, key = "{'count', #department, #college, #category}")
+    public long countPrograms(String department, String college, String category) {
+        return programRepository.countByFilters(department, college, category);
     }
 
     /**
-     * 전체 프로그램 조회 with 페이지네이션
+     * 키워드로 프로그램 검색 with 페이지네이션 (제목/설명/카테고리/부서, 관련도순)
      */
-    public Page<Program> getAllProgramsWithPagination(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return programRepository.findAllNotDeletedWithPagination(pageable);
+    @Cacheable(cacheNames = CacheConfig.PROGRAM_CATALOG, key = "{'search', #keyword, #page, #size}")
+    public Page<ProgramCardResponse> searchProgramsWithPagination(String keyword, int page, int size) {
+        return programSearchService.search(keyword, page, size);
     }
 
     /**
      * 프로그램 생성
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PROGRAM_CATALOG, allEntries = true)
     public Program createProgram(Program program) {
         Program savedProgram = programRepository.save(program);
         log.info("프로그램 생성 완료: {} (ID: {})", savedProgram.getTitle(), savedProgram.getProgramId());
@@ -159,6 +189,7 @@ public class ProgramService {
      * 프로그램 수정
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PROGRAM_CATALOG, allEntries = true)
     public Program updateProgram(Integer programId, Program programData) {
         Program program = getProgram(programId);
 
@@ -199,8 +230,13 @@ public class ProgramService {
         if (programData.getStatus() != null) {
             program.setStatus(programData.getStatus());
         }
+        if (programData.getHighDemand() != null) {
+            program.setHighDemand(programData.getHighDemand());
+        }
 
         Program updatedProgram = programRepository.save(program);
+        // 정원/모드가 바뀌었을 수 있으므로 고수요 좌석 카운터는 다음 신청 시 다시 초기화
+        highDemandSeatCounter.evict(programId);
         log.info("프로그램 수정 완료: {} (ID: {})", updatedProgram.getTitle(), updatedProgram.getProgramId());
         return updatedProgram;
     }
@@ -209,57 +245,12 @@ public class ProgramService {
      * 프로그램 삭제 (Soft Delete)
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PROGRAM_CATALOG, allEntries = true)
     public void deleteProgram(Integer programId) {
         Program program = getProgram(programId);
         program.delete();
         programRepository.save(program);
+        highDemandSeatCounter.evict(programId);
         log.info("프로그램 삭제 완료: {} (ID: {})", program.getTitle(), program.getProgramId());
     }
-
-    /**
-     * 프로그램 참가자 증가
-     */
-    @Transactional
-    public boolean incrementParticipants(Integer programId) {
-        Program program = getProgram(programId);
-        if (!program.isApplicationAvailable()) {
-            log.warn("신청 불가능한 프로그램: {} (ID: {})", program.getTitle(), program.getProgramId());
-            return false;
-        }
-
-        boolean success = program.incrementParticipants();
-        if (success) {
-            // 정원이 찬 경우 상태 변경
-            if (program.getMaxParticipants() != null
-                && program.getCurrentParticipants() >= program.getMaxParticipants()) {
-                program.setStatus(ProgramStatus.FULL);
-            }
-            programRepository.save(program);
-            log.info("프로그램 참가자 증가: {} (ID: {}, 현재: {}/{})",
-                    program.getTitle(), program.getProgramId(),
-                    program.getCurrentParticipants(), program.getMaxParticipants());
-        }
-        return success;
-    }
-
-    /**
-     * 프로그램 참가자 감소
-     */
-    @Transactional
-    public void decrementParticipants(Integer programId) {
-        Program program = getProgram(programId);
-        program.decrementParticipants();
-
-        // 정원이 다시 여유가 생긴 경우 상태 변경
-        if (program.getStatus() == ProgramStatus.FULL
-            && (program.getMaxParticipants() == null
-            || program.getCurrentParticipants() < program.getMaxParticipants())) {
-            program.setStatus(ProgramStatus.OPEN);
-        }
-
-        programRepository.save(program);
-        log.info("프로그램 참가자 감소: {} (ID: {}, 현재: {}/{})",
-                program.getTitle(), program.getProgramId(),
-                program.getCurrentParticipants(), program.getMaxParticipants());
-    }
 }
@@ -0,0 +1,119 @@
+package com.scms.app.service;
+
+import com.scms.app.config.CacheConfig;
+import com.scms.app.repository.ProgramRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로그램 좌석 예약 Service
+ *
+ * 참가자 수를 엔티티로 읽고-수정-저장하지 않고 조건부 원자적 UPDATE 한 문장으로 처리한다.
+ * 동시 신청이 몰려도 정원을 초과하지 않으며, 행 잠금은 UPDATE 시점부터 커밋까지만 유지된다.
+ * 프로그램 목록 캐시는 정원 마감/재개(OPEN ↔ FULL)로 신청 가능 여부가 바뀔 때만 커밋 후 무효화한다.
+ * 참가자 수만 바뀐 경우에는 무효화하지 않으므로, 목록의 참가자 수는 캐시 TTL
+ * (scms.cache.program-catalog.ttl-seconds)만큼 늦게 반영될 수 있다. 신청 가능 여부는 항상 이 UPDATE로 판정된다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SeatReservationService {
+
+    private final ProgramRepository programRepository;
+    private final HighDemandSeatCounter highDemandSeatCounter;
+    private final CacheManager cacheManager;
+
+    /**
+     * 좌석 1개 예약
+     *
+     * @return 예약 성공 여부 (정원 마감 또는 신청 불가 상태면 false)
+     */
+    @Transactional
+    public boolean reserve(Integer programId) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean reserved = programRepository.reserveSeat(programId, now) == 1;
+        if (!reserved && programRepository.reserveLastSeat(programId, now) == 1) {
+            // 마지막 좌석 예약으로 정원 마감
+            reserved = true;
+            evictCatalog(programId);
+        }
+        if (reserved) {
+            log.debug("좌석 예약 완료: 프로그램 ID {}", programId);
+        } else {
+            log.info("좌석 예약 실패 (정원 마감 또는 신청 불가): 프로그램 ID {}", programId);
+        }
+        return reserved;
+    }
+
+    /**
+     * 메모리 카운터에서 이미 확보한 좌석을 DB에 반영 (고수요 모드)
+     */
+    @Transactional
+    public void confirmReserved(Integer programId, int count) {
+        if (count <= 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (programRepository.addParticipants(programId, count, now) == 0
+                && programRepository.fillParticipants(programId, count, now) == 1) {
+            evictCatalog(programId);
+        }
+        log.debug("확보 좌석 반영 완료: 프로그램 ID {}, 좌석 수 {}", programId, count);
+    }
+
+    /**
+     * 좌석 반환 (신청 취소/거부)
+     * - 고수요 모드 카운터는 커밋 이후에 반환하여 롤백 시 좌석이 과다 계상되지 않도록 함
+     */
+    @Transactional
+    public void release(Integer programId, int count) {
+        if (count <= 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int updated = programRepository.releaseSeats(programId, count, now);
+        if (updated == 0) {
+            // 정원 마감 상태였다면 재개
+            updated = programRepository.reopenSeats(programId, count, now);
+            if (updated == 1) {
+                evictCatalog(programId);
+            }
+        }
+        if (updated == 0) {
+            log.warn("좌석 반환 대상 없음: 프로그램 ID {}, 반환 수 {}", programId, count);
+            return;
+        }
+        log.debug("좌석 반환 완료: 프로그램 ID {}, 반환 수 {}", programId, count);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    highDemandSeatCounter.release(programId, count);
+                }
+            });
+        } else {
+            highDemandSeatCounter.release(programId, count);
+        }
+    }
+
+    /**
+     * 프로그램 목록 캐시 무효화 (신청 가능 여부가 바뀐 경우만, 트랜잭션 커밋 후 적용)
+     */
+    private void evictCatalog(Integer programId) {
+        Cache catalog = cacheManager.getCache(CacheConfig.PROGRAM_CATALOG);
+        if (catalog != null) {
+            catalog.clear();
+        }
+        log.debug("정원 상태 변경으로 프로그램 목록 캐시 무효화: 프로그램 ID {}", programId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.scms.app.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scms.app.dto.UserSearchFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 사용자 목록 NDJSON 내보내기 Service (관리자 전체 덤프용)
+ *
+ * 사용자 목록 API와 같은 SQL(UserSearchQuery)로 내보내기 전용 fetch size(scms.export.fetch-size)로 스트리밍 조회하며 바로 출력 스트림에 기록하므로
+ * 사용자 수와 관계없이 메모리 사용량이 일정하다. 비밀번호 해시와 연락처는 내보내지 않는다.
+ */
+@Service
+@Slf4j
+public class UserExportService {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final NamedParameterJdbcTemplate exportJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public UserExportService(DataSource dataSource, ObjectMapper objectMapper,
+                             @Value("${scms.export.fetch-size:500}") int fetchSize) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        this.exportJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * NDJSON 내보내기 (한 줄에 사용자 하나의 JSON 객체, 학번순)
+     *
+     * @return 기록한 행 수
+     */
+    public long writeNdjson(UserSearchFilter filter, OutputStream out) throws IOException {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = UserSearchQuery.SELECT + UserSearchQuery.where(filter, params) + " ORDER BY student_num";
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        long[] count = {0};
+        try {
+            exportJdbcTemplate.query(sql, params, rs -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("user_id", rs.getInt("user_id"));
+                    generator.writeNumberField("student_num", rs.getInt("student_num"));
+                    generator.writeStringField("name", rs.getString("name"));
+                    generator.writeStringField("email", rs.getString("email"));
+                    generator.writeStringField("department", rs.getString("department"));
+                    int grade = rs.getInt("grade");
+                    if (rs.wasNull()) {
+                        generator.writeNullField("grade");
+                    } else {
+                        generator.writeNumberField("grade", grade);
+                    }
+                    generator.writeStringField("role", rs.getString("role"));
+                    generator.writeBooleanField("locked", rs.getBoolean("locked"));
+                    generator.writeNumberField("fail_cnt", rs.getInt("fail_cnt"));
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    generator.writeStringField("created_at",
+                            createdAt != null ? createdAt.toLocalDateTime().format(DATE_FORMATTER) : null);
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 출력 오류
+            throw e.getCause();
+        }
+
+        generator.flush();
+        writer.flush();
+        log.info("사용자 NDJSON 내보내기 완료: 조건 {}, {}행", filter.describe(), count[0]);
+        return count[0];
+    }
+}
@@ -0,0 +1,295 @@
+package com.scms.app.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scms.app.dto.UserImportJob;
+import com.scms.app.dto.UserImportResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 일괄 등록 비동기 작업 Service
+ *
+ * 업로드한 파일은 로컬 임시 파일로 옮긴 뒤 작업으로 등록되어, 전용 스레드 1개에서 UserImportService로 등록된다.
+ * 수천 행의 초기 비밀번호 해시가 Tomcat 요청 스레드를 점유하거나 프록시 타임아웃에 걸리지 않는다.
+ * 작업 상태와 결과(행별 오류 포함)는 user_import_jobs 테이블에 저장되므로 어느 인스턴스에서든 조회할 수 있으며,
+ * 보관 시간이 지나면 정리된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportJobService {
+
+    private static final String INSERT_JOB_SQL =
+            "INSERT INTO user_import_jobs (job_id, user_id, file_name, status, requested_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String START_JOB_SQL =
+            "UPDATE user_import_jobs SET status = 'RUNNING' WHERE job_id = ? AND status = 'QUEUED'";
+
+    private static final String COMPLETE_JOB_SQL =
+            "UPDATE user_import_jobs SET status = 'COMPLETED', total_rows = ?, created_count = ?, failed_count = ?, " +
+            "elapsed_ms = ?, errors = ?, completed_at = ? WHERE job_id = ?";
+
+    private static final String FAIL_JOB_SQL =
+            "UPDATE user_import_jobs SET status = 'FAILED', message = ?, completed_at = ? " +
+            "WHERE job_id = ? AND status IN ('QUEUED', 'RUNNING')";
+
+    private static final String SELECT_JOB_SQL =
+            "SELECT job_id, user_id, file_name, status, message, total_rows, created_count, failed_count, elapsed_ms, " +
+            "errors, requested_at, completed_at FROM user_import_jobs WHERE job_id = ? AND user_id = ?";
+
+    private static final String ABANDONED_JOBS_SQL =
+            "UPDATE user_import_jobs SET status = 'FAILED', message = ?, completed_at = ? " +
+            "WHERE status IN ('QUEUED', 'RUNNING') AND requested_at < ?";
+
+    private static final TypeReference<List<UserImportResult.RowError>> ROW_ERRORS = new TypeReference<>() {
+    };
+
+    private final UserImportService userImportService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${scms.user-import.queue-capacity:5}")
+    private int queueCapacity;
+
+    @Value("${scms.user-import.max-run-ms:3600000}")
+    private long maxRunMs;
+
+    @Value("${scms.user-import.result-ttl-ms:86400000}")
+    private long resultTtlMs;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        // 해시 계산은 UserImportService의 풀에서 병렬로 하므로 작업은 인스턴스마다 하나씩만 실행
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 일괄 등록 작업 등록
+     *
+     * @param file     XLSX 또는 CSV 파일
+     * @param encoding CSV 문자 인코딩
+     * @throws IllegalArgumentException 지원하지 않는 파일 형식이나 인코딩인 경우
+     * @throws IllegalStateException    대기 중인 작업이 많아 등록할 수 없는 경우
+     */
+    public UserImportJob submit(Integer userId, MultipartFile file, String encoding) throws IOException {
+        String fileName = file.getOriginalFilename() == null ? "" : file.getOriginalFilename();
+        userImportService.checkFile(fileName, encoding);
+
+        // 요청이 끝나면 업로드 파일이 지워지므로 작업이 끝날 때까지 쓸 임시 파일로 옮김
+        String extension = fileName.substring(fileName.lastIndexOf('.')).toLowerCase(Locale.ROOT);
+        Path upload = Files.createTempFile("user-import-", extension);
+        try {
+            file.transferTo(upload);
+        } catch (IOException e) {
+            Files.deleteIfExists(upload);
+            throw e;
+        }
+
+        UserImportJob job = UserImportJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .userId(userId)
+                .fileName(fileName)
+                .status(UserImportJob.Status.QUEUED)
+                .statusDescription(UserImportJob.Status.QUEUED.getDescription())
+                .requestedAt(LocalDateTime.now())
+                .build();
+        try {
+            jdbcTemplate.update(INSERT_JOB_SQL, job.getJobId(), userId, fileName, job.getStatus().name(),
+                    Timestamp.valueOf(job.getRequestedAt()));
+            executor.execute(new ImportTask(job.getJobId(), upload, fileName, encoding));
+        } catch (RejectedExecutionException e) {
+            deleteQuietly(upload);
+            jdbcTemplate.update("DELETE FROM user_import_jobs WHERE job_id = ?", job.getJobId());
+            throw new IllegalStateException("대기 중인 일괄 등록이 많습니다. 잠시 후 다시 시도해주세요.");
+        } catch (RuntimeException e) {
+            deleteQuietly(upload);
+            throw e;
+        }
+
+        log.info("사용자 일괄 등록 작업 등록: 작업 {}, 파일 {} ({}바이트)", job.getJobId(), fileName, file.getSize());
+        return job;
+    }
+
+    /**
+     * 작업 상태 및 결과 조회 (요청한 사용자만 조회 가능)
+     */
+    public UserImportJob getJob(String jobId, Integer userId) {
+        List<UserImportJob> found = jdbcTemplate.query(SELECT_JOB_SQL, (rs, rowNum) -> toJob(rs), jobId, userId);
+        if (found.isEmpty()) {
+            throw new IllegalArgumentException("일괄 등록 작업을 찾을 수 없습니다.");
+        }
+        return found.get(0);
+    }
+
+    private UserImportJob toJob(ResultSet rs) throws SQLException {
+        UserImportJob.Status status = UserImportJob.Status.valueOf(rs.getString("status"));
+        Timestamp completedAt = rs.getTimestamp("completed_at");
+        UserImportResult result = null;
+        if (status == UserImportJob.Status.COMPLETED) {
+            result = UserImportResult.builder()
+                    .fileName(rs.getString("file_name"))
+                    .totalRows(rs.getInt("total_rows"))
+                    .createdCount(rs.getInt("created_count"))
+                    .failedCount(rs.getInt("failed_count"))
+                    .elapsedMs(rs.getLong("elapsed_ms"))
+                    .errors(readErrors(rs.getString("errors")))
+                    .build();
+        }
+        return UserImportJob.builder()
+                .jobId(rs.getString("job_id"))
+                .userId(rs.getObject("user_id", Integer.class))
+                .fileName(rs.getString("file_name"))
+                .status(status)
+                .statusDescription(status.getDescription())
+                .message(rs.getString("message"))
+                .result(result)
+                .requestedAt(rs.getTimestamp("requested_at").toLocalDateTime())
+                .completedAt(completedAt != null ? completedAt.toLocalDateTime() : null)
+                .build();
+    }
+
+    private void run(String jobId, Path upload, String fileName, String encoding) {
+        try {
+            if (jdbcTemplate.update(START_JOB_SQL, jobId) == 0) {
+                return;
+            }
+            UserImportResult result = userImportService.importUsers(upload, fileName, encoding);
+            jdbcTemplate.update(COMPLETE_JOB_SQL,
+                    result.getTotalRows(),
+                    result.getCreatedCount(),
+                    result.getFailedCount(),
+                    result.getElapsedMs(),
+                    objectMapper.writeValueAsString(result.getErrors()),
+                    Timestamp.valueOf(LocalDateTime.now()),
+                    jobId);
+
+        } catch (IllegalArgumentException e) {
+            // 헤더 누락, 빈 파일 등 파일 내용 문제
+            markFailed(jobId, e.getMessage());
+
+        } catch (Exception e) {
+            log.error("사용자 일괄 등록 작업 실패: 작업 {}", jobId, e);
+            markFailed(jobId, e instanceof IllegalStateException
+                    ? e.getMessage()
+                    : "일괄 등록에 실패했습니다.");
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    /**
+     * 만료된 작업 정리
+     * - 제한 시간이 지나도록 끝나지 않은 작업(등록한 인스턴스가 비정상 종료된 경우)은 실패로 바꿈
+     * - 모든 인스턴스가 실행해도 결과가 같은 멱등 문장만 사용
+     */
+    @Scheduled(fixedDelayString = "${scms.user-import.cleanup-interval-ms:600000}")
+    public void cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.update(ABANDONED_JOBS_SQL, "작업이 처리되지 않았습니다. 등록 결과를 확인한 뒤 다시 요청해주세요.",
+                    Timestamp.valueOf(now), Timestamp.valueOf(now.minusNanos(maxRunMs * 1_000_000L)));
+            jdbcTemplate.update("DELETE FROM user_import_jobs WHERE completed_at < ?",
+                    Timestamp.valueOf(now.minusNanos(resultTtlMs * 1_000_000L)));
+        } catch (DataAccessException e) {
+            log.warn("사용자 일괄 등록 작업 정리 실패", e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 진행 중인 작업 중단, 시작하지 못한 작업은 실패 처리
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Runnable pending : executor.shutdownNow()) {
+            if (pending instanceof ImportTask task) {
+                deleteQuietly(task.upload);
+                markFailed(task.jobId, "서버가 종료되어 작업이 취소되었습니다. 다시 요청해주세요.");
+            }
+        }
+    }
+
+    private List<UserImportResult.RowError> readErrors(String json) {
+        if (json == null) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, ROW_ERRORS);
+        } catch (JsonProcessingException e) {
+            log.warn("일괄 등록 오류 목록을 읽을 수 없습니다", e);
+            return List.of();
+        }
+    }
+
+    private void markFailed(String jobId, String message) {
+        try {
+            jdbcTemplate.update(FAIL_JOB_SQL, message, Timestamp.valueOf(LocalDateTime.now()), jobId);
+        } catch (DataAccessException e) {
+            log.warn("사용자 일괄 등록 작업 실패 처리 실패: 작업 {}", jobId, e);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("일괄 등록 임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    /**
+     * 대기열 작업 (종료 시 시작하지 못한 작업을 실패 처리할 수 있도록 작업 정보를 보관)
+     */
+    private final class ImportTask implements Runnable {
+
+        private final String jobId;
+        private final Path upload;
+        private final String fileName;
+        private final String encoding;
+
+        private ImportTask(String jobId, Path upload, String fileName, String encoding) {
+            this.jobId = jobId;
+            this.upload = upload;
+            this.fileName = fileName;
+            this.encoding = encoding;
+        }
+
+        @Override
+        public void run() {
+            UserImportJobService.this.run(jobId, upload, fileName, encoding);
+        }
+    }
+}
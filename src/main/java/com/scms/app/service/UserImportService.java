@@ -0,0 +1,549 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.UserCreateRequest;
+import com.scms.app.dto.UserImportResult;
+import com.scms.app.model.UserRole;
+import com.scms.app.util.CsvUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 일괄 등록 Service (XLSX / CSV)
+ *
+ * 파일을 한 행씩 읽어(XLSX는 POI SAX 이벤트 방식) 청크 단위로 처리한다.
+ * 청크마다 학번/이메일 중복을 IN 조회 한 번으로 확인하고, 초기 비밀번호 해시를 전용 스레드 풀에서
+ * 병렬로 계산한 뒤 JDBC 배치 INSERT로 저장한다. 배치 저장이 실패하면 행별로 다시 저장하여 충돌한 행만 실패로 남긴다.
+ * 잘못된 행은 건너뛰고 행 번호와 사유를 결과로 반환한다.
+ * 등록은 UserImportJobService가 작업으로 실행하며, 해시 계산이 CPU를 많이 쓰므로 인스턴스마다 한 번에 하나만 실행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (student_num, name, email, phone, password, birth_date, department, grade, " +
+            "role, locked, fail_cnt, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String EXISTING_SQL =
+            "SELECT student_num, email FROM users WHERE student_num IN (:studentNums) OR email IN (:emails)";
+
+    private static final DateTimeFormatter INITIAL_PASSWORD_FORMAT = DateTimeFormatter.ofPattern("yyMMdd");
+
+    private static final List<DateTimeFormatter> BIRTH_DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("yyyy.MM.dd"),
+            DateTimeFormatter.ofPattern("yyyy/MM/dd"),
+            DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+    /**
+     * 헤더 이름 → 필드 (한글/영문 모두 허용)
+     */
+    private static final Map<String, String> HEADER_ALIASES = Map.ofEntries(
+            Map.entry("학번", "studentNum"), Map.entry("studentnum", "studentNum"), Map.entry("student_num", "studentNum"),
+            Map.entry("이름", "name"), Map.entry("name", "name"),
+            Map.entry("이메일", "email"), Map.entry("email", "email"),
+            Map.entry("전화번호", "phone"), Map.entry("phone", "phone"),
+            Map.entry("생년월일", "birthDate"), Map.entry("birthdate", "birthDate"), Map.entry("birth_date", "birthDate"),
+            Map.entry("학과", "department"), Map.entry("department", "department"),
+            Map.entry("학년", "grade"), Map.entry("grade", "grade"),
+            Map.entry("역할", "role"), Map.entry("role", "role"));
+
+    private static final Set<String> REQUIRED_COLUMNS = Set.of("studentNum", "name", "email", "birthDate");
+
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    @Value("${scms.user-import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${scms.user-import.max-rows:10000}")
+    private int maxRows;
+
+    @Value("${scms.user-import.hash-threads:0}")
+    private int hashThreads;
+
+    private ThreadPoolExecutor hashExecutor;
+
+    @PostConstruct
+    public void init() {
+        // 0이면 코어의 절반만 사용 (로그인 비밀번호 확인과 요청 처리용 코어를 남김)
+        int poolSize = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        hashExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(chunkSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-import-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 등록할 수 있는 파일인지 확인 (작업 등록 전에 호출)
+     *
+     * @throws IllegalArgumentException 지원하지 않는 파일 형식이나 인코딩인 경우
+     */
+    public void checkFile(String fileName, String encoding) {
+        String lowerName = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        if (!lowerName.endsWith(".xlsx") && !lowerName.endsWith(".csv")) {
+            throw new IllegalArgumentException("XLSX 또는 CSV 파일만 등록할 수 있습니다.");
+        }
+        toCharset(encoding);
+    }
+
+    /**
+     * 사용자 일괄 등록
+     *
+     * @param file     XLSX 또는 CSV 파일 (첫 행은 헤더: 학번, 이름, 이메일, 전화번호, 생년월일, 학과, 학년, 역할)
+     * @param fileName 업로드된 파일명 (확장자로 형식 판단)
+     * @param encoding CSV 문자 인코딩 (UTF-8 BOM이 있으면 무시)
+     * @throws IllegalArgumentException 지원하지 않는 파일이거나 헤더가 잘못된 경우
+     * @throws IllegalStateException    초기 비밀번호 해시에 실패한 경우 (앞 청크는 이미 저장되었을 수 있음)
+     */
+    public UserImportResult importUsers(Path file, String fileName, String encoding) throws IOException {
+        checkFile(fileName, encoding);
+        boolean xlsx = fileName.toLowerCase(Locale.ROOT).endsWith(".xlsx");
+
+        long startedAt = System.currentTimeMillis();
+        ImportRun run = new ImportRun();
+        try {
+            if (xlsx) {
+                readXlsx(file, run);
+            } else {
+                readCsv(file, toCharset(encoding), run);
+            }
+            run.finish();
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException(e.getMessage() + " (이미 저장된 " + run.createdCount + "명은 등록되었습니다)", e);
+        }
+
+        UserImportResult result = UserImportResult.builder()
+                .fileName(fileName)
+                .totalRows(run.totalRows)
+                .createdCount(run.createdCount)
+                .failedCount(run.errors.size())
+                .elapsedMs(System.currentTimeMillis() - startedAt)
+                .errors(run.errors)
+                .build();
+        log.info("사용자 일괄 등록 완료: 파일 {}, 전체 {}행, 등록 {}명, 실패 {}행, {}ms",
+                fileName, result.getTotalRows(), result.getCreatedCount(), result.getFailedCount(),
+                result.getElapsedMs());
+        return result;
+    }
+
+    private Charset toCharset(String encoding) {
+        try {
+            return Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 인코딩입니다: " + encoding);
+        }
+    }
+
+    private void readCsv(Path file, Charset charset, ImportRun run) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file), charset))) {
+            String line;
+            int rowNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                rowNumber++;
+                if (rowNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                    line = line.substring(1);
+                }
+                run.addRow(rowNumber, CsvUtils.parseLine(line));
+            }
+        }
+    }
+
+    private void readXlsx(Path file, ImportRun run) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IllegalArgumentException("시트가 없는 파일입니다.");
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), strings,
+                        new RowCollector(run), new IsoDateFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IllegalArgumentException("XLSX 파일을 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * SAX 이벤트를 행 단위 목록으로 모음 (빈 셀은 빈 문자열로 채움)
+     */
+    private static class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final ImportRun run;
+        private final List<String> cells = new ArrayList<>();
+
+        RowCollector(ImportRun run) {
+            this.run = run;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            run.addRow(rowNum + 1, new ArrayList<>(cells));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = new CellReference(cellReference).getCol();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue);
+        }
+    }
+
+    /**
+     * 날짜 서식 셀은 셀 서식과 관계없이 yyyy-MM-dd로 읽음
+     */
+    private static class IsoDateFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value).toLocalDate().toString();
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString);
+        }
+    }
+
+    /**
+     * 등록 대기 행
+     */
+    private record PendingUser(int rowNumber, UserCreateRequest request) {
+    }
+
+    /**
+     * 일괄 등록 1회의 진행 상태 (헤더 매핑, 청크, 파일 내 중복 확인, 결과)
+     */
+    private class ImportRun {
+
+        private Map<String, Integer> columns;
+        private final List<PendingUser> chunk = new ArrayList<>();
+        private final Set<Integer> seenStudentNums = new HashSet<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<UserImportResult.RowError> errors = new ArrayList<>();
+        private int totalRows;
+        private int createdCount;
+        private boolean limitReached;
+
+        void addRow(int rowNumber, List<String> cells) {
+            if (columns == null) {
+                columns = mapHeader(cells);
+                return;
+            }
+            if (cells.stream().allMatch(cell -> cell == null || cell.isBlank())) {
+                return;
+            }
+            if (limitReached) {
+                return;
+            }
+            if (totalRows >= maxRows) {
+                // 앞 청크는 이미 저장되었을 수 있으므로 실패로 끝내지 않고 이후 행만 처리하지 않음
+                limitReached = true;
+                errors.add(new UserImportResult.RowError(rowNumber, null,
+                        "한 번에 최대 " + maxRows + "명까지 등록할 수 있어 이 행부터는 처리하지 않았습니다"));
+                return;
+            }
+            totalRows++;
+
+            String studentNumText = cell(cells, "studentNum");
+            UserCreateRequest request;
+            try {
+                request = toRequest(cells);
+            } catch (IllegalArgumentException e) {
+                errors.add(new UserImportResult.RowError(rowNumber, studentNumText, e.getMessage()));
+                return;
+            }
+
+            Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                errors.add(new UserImportResult.RowError(rowNumber, studentNumText, message));
+                return;
+            }
+            if (!seenStudentNums.add(request.getStudentNum())) {
+                errors.add(new UserImportResult.RowError(rowNumber, studentNumText, "파일 안에 같은 학번이 있습니다"));
+                return;
+            }
+            if (!seenEmails.add(request.getEmail().toLowerCase(Locale.ROOT))) {
+                errors.add(new UserImportResult.RowError(rowNumber, studentNumText, "파일 안에 같은 이메일이 있습니다"));
+                return;
+            }
+
+            chunk.add(new PendingUser(rowNumber, request));
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void finish() {
+            if (columns == null) {
+                throw new IllegalArgumentException("빈 파일입니다.");
+            }
+            flush();
+        }
+
+        private Map<String, Integer> mapHeader(List<String> header) {
+            Map<String, Integer> mapping = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i) == null ? "" : header.get(i).trim().toLowerCase(Locale.ROOT);
+                String field = HEADER_ALIASES.get(name);
+                if (field != null) {
+                    mapping.putIfAbsent(field, i);
+                }
+            }
+            List<String> missing = REQUIRED_COLUMNS.stream()
+                    .filter(field -> !mapping.containsKey(field))
+                    .sorted()
+                    .toList();
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("필수 열이 없습니다: " + String.join(", ", missing));
+            }
+            return mapping;
+        }
+
+        private String cell(List<String> cells, String field) {
+            Integer index = columns.get(field);
+            if (index == null || index >= cells.size() || cells.get(index) == null) {
+                return null;
+            }
+            String value = cells.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private UserCreateRequest toRequest(List<String> cells) {
+            UserCreateRequest request = new UserCreateRequest();
+            request.setStudentNum(parseInteger(cell(cells, "studentNum"), "학번"));
+            request.setName(cell(cells, "name"));
+            request.setEmail(cell(cells, "email"));
+            request.setPhone(cell(cells, "phone"));
+            request.setBirthDate(parseBirthDate(cell(cells, "birthDate")));
+            request.setDepartment(cell(cells, "department"));
+            request.setGrade(parseInteger(cell(cells, "grade"), "학년"));
+            String role = cell(cells, "role");
+            try {
+                request.setRole(role == null ? UserRole.STUDENT : UserRole.valueOf(role.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("역할은 STUDENT, COUNSELOR, ADMIN 중 하나여야 합니다");
+            }
+            return request;
+        }
+
+        private Integer parseInteger(String value, String label) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                // 숫자 셀이 "2025001.0"처럼 읽히는 경우 포함
+                return value.endsWith(".0")
+                        ? Integer.valueOf(value.substring(0, value.length() - 2))
+                        : Integer.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(label + "은(는) 숫자여야 합니다: " + value);
+            }
+        }
+
+        private LocalDate parseBirthDate(String value) {
+            if (value == null) {
+                return null;
+            }
+            for (DateTimeFormatter format : BIRTH_DATE_FORMATS) {
+                try {
+                    return LocalDate.parse(value, format);
+                } catch (DateTimeParseException ignored) {
+                    // 다음 형식 시도
+                }
+            }
+            throw new IllegalArgumentException("생년월일 형식이 올바르지 않습니다 (예: 2005-03-02): " + value);
+        }
+
+        /**
+         * 청크 저장: 기존 사용자 중복 확인(IN 조회 1회) → 병렬 해시 → 배치 INSERT
+         */
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<PendingUser> candidates = excludeExisting(chunk);
+            chunk.clear();
+            if (candidates.isEmpty()) {
+                return;
+            }
+
+            List<String> passwords = hashInitialPasswords(candidates);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> batchArgs = new ArrayList<>(candidates.size());
+            for (int i = 0; i < candidates.size(); i++) {
+                UserCreateRequest request = candidates.get(i).request();
+                batchArgs.add(new Object[]{
+                        request.getStudentNum(), request.getName(), request.getEmail(), request.getPhone(),
+                        passwords.get(i), Date.valueOf(request.getBirthDate()), request.getDepartment(),
+                        request.getGrade(), request.getRole().name(), false, 0, now, now
+                });
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs));
+                createdCount += candidates.size();
+            } catch (DataAccessException e) {
+                // 확인 이후 다른 요청이 같은 학번/이메일을 등록한 경우 등 (청크 전체가 롤백되므로 행별로 다시 저장)
+                log.warn("사용자 일괄 등록 청크 저장 실패, 행별로 다시 저장합니다: {}행", candidates.size(), e);
+                insertEach(candidates, batchArgs);
+            }
+        }
+
+        /**
+         * 행별 개별 저장 (청크 저장 실패 시, 실패한 행만 오류로 기록)
+         */
+        private void insertEach(List<PendingUser> candidates, List<Object[]> batchArgs) {
+            for (int i = 0; i < candidates.size(); i++) {
+                PendingUser pending = candidates.get(i);
+                String studentNum = String.valueOf(pending.request().getStudentNum());
+                try {
+                    jdbcTemplate.update(INSERT_SQL, batchArgs.get(i));
+                    createdCount++;
+                } catch (DuplicateKeyException e) {
+                    errors.add(new UserImportResult.RowError(pending.rowNumber(), studentNum,
+                            "이미 등록된 학번 또는 이메일입니다"));
+                } catch (DataAccessException e) {
+                    log.warn("사용자 일괄 등록 행 저장 실패: {}행 (학번 {})", pending.rowNumber(), studentNum, e);
+                    errors.add(new UserImportResult.RowError(pending.rowNumber(), studentNum, "저장하지 못했습니다"));
+                }
+            }
+        }
+
+        private List<PendingUser> excludeExisting(List<PendingUser> pendingUsers) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("studentNums", pendingUsers.stream().map(p -> p.request().getStudentNum()).toList())
+                    .addValue("emails", pendingUsers.stream().map(p -> p.request().getEmail()).toList());
+
+            Set<Integer> existingStudentNums = new HashSet<>();
+            Set<String> existingEmails = new HashSet<>();
+            namedParameterJdbcTemplate.query(EXISTING_SQL, params, rs -> {
+                existingStudentNums.add(rs.getInt("student_num"));
+                existingEmails.add(rs.getString("email").toLowerCase(Locale.ROOT));
+            });
+
+            List<PendingUser> candidates = new ArrayList<>(pendingUsers.size());
+            for (PendingUser pending : pendingUsers) {
+                UserCreateRequest request = pending.request();
+                String studentNum = String.valueOf(request.getStudentNum());
+                if (existingStudentNums.contains(request.getStudentNum())) {
+                    errors.add(new UserImportResult.RowError(pending.rowNumber(), studentNum, "이미 등록된 학번입니다"));
+                } else if (existingEmails.contains(request.getEmail().toLowerCase(Locale.ROOT))) {
+                    errors.add(new UserImportResult.RowError(pending.rowNumber(), studentNum, "이미 등록된 이메일입니다"));
+                } else {
+                    candidates.add(pending);
+                }
+            }
+            return candidates;
+        }
+
+        /**
+         * 초기 비밀번호(생년월일 6자리) 해시를 전용 스레드 풀에서 병렬 계산 (결과는 candidates 순서)
+         */
+        private List<String> hashInitialPasswords(List<PendingUser> candidates) {
+            List<Future<String>> futures = new ArrayList<>(candidates.size());
+            for (PendingUser pending : candidates) {
+                String initialPassword = pending.request().getBirthDate().format(INITIAL_PASSWORD_FORMAT);
+                futures.add(hashExecutor.submit(() -> passwordEncoder.encode(initialPassword)));
+            }
+
+            List<String> passwords = new ArrayList<>(futures.size());
+            try {
+                for (Future<String> future : futures) {
+                    passwords.add(future.get());
+                }
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("사용자 일괄 등록이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("비밀번호 생성에 실패했습니다.", e.getCause());
+            }
+            return passwords;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+}
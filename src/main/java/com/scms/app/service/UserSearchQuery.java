@@ -0,0 +1,96 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.UserSearchFilter;
+import com.scms.app.dto.UserSummaryResponse;
+import com.scms.app.model.UserRole;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 검색 SQL (목록 API와 NDJSON 내보내기 공용)
+ *
+ * 지정된 조건만 WHERE 절에 넣으므로 (role, student_num) 같은 조건별 인덱스를 그대로 사용한다.
+ */
+final class UserSearchQuery {
+
+    /**
+     * 목록/내보내기 컬럼 (비밀번호 해시, 연락처 제외)
+     */
+    static final String SELECT = "SELECT user_id, student_num, name, email, department, grade, role, locked, " +
+            "fail_cnt, created_at FROM users";
+
+    static final String COUNT = "SELECT COUNT(*) FROM users";
+
+    /**
+     * 정렬 가능한 속성 → 컬럼
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "userId", "user_id",
+            "studentNum", "student_num",
+            "name", "name",
+            "department", "department",
+            "grade", "grade",
+            "createdAt", "created_at");
+
+    static final RowMapper<UserSummaryResponse> SUMMARY_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new UserSummaryResponse(
+                rs.getInt("user_id"),
+                rs.getInt("student_num"),
+                rs.getString("name"),
+                rs.getString("email"),
+                rs.getString("department"),
+                rs.getObject("grade", Integer.class),
+                UserRole.valueOf(rs.getString("role")),
+                rs.getBoolean("locked"),
+                rs.getInt("fail_cnt"),
+                createdAt != null ? createdAt.toLocalDateTime() : null);
+    };
+
+    private UserSearchQuery() {
+    }
+
+    /**
+     * 검색 조건 WHERE 절 (삭제되지 않은 사용자만, 파라미터는 params에 추가)
+     */
+    static String where(UserSearchFilter filter, MapSqlParameterSource params) {
+        StringBuilder sql = new StringBuilder(" WHERE deleted_at IS NULL");
+        if (filter.getRole() != null) {
+            sql.append(" AND role = :role");
+            params.addValue("role", filter.getRole().name());
+        }
+        if (filter.getLocked() != null) {
+            sql.append(" AND locked = :locked");
+            params.addValue("locked", filter.getLocked());
+        }
+        if (filter.getDepartment() != null) {
+            sql.append(" AND department = :department");
+            params.addValue("department", filter.getDepartment());
+        }
+        if (filter.getNamePrefixPattern() != null) {
+            sql.append(" AND name LIKE :namePattern ESCAPE '").append(UserSearchFilter.LIKE_ESCAPE).append('\'');
+            params.addValue("namePattern", filter.getNamePrefixPattern());
+        }
+        return sql.toString();
+    }
+
+    /**
+     * ORDER BY 절 (정렬 속성은 SORT_COLUMNS에 있는 것만 허용)
+     */
+    static String orderBy(Sort sort) {
+        return sort.stream()
+                .map(order -> {
+                    String column = SORT_COLUMNS.get(order.getProperty());
+                    if (column == null) {
+                        throw new IllegalArgumentException("정렬할 수 없는 항목입니다: " + order.getProperty());
+                    }
+                    return column + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+}
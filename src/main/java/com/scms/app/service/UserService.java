@@ -5,22 +5,27 @@ import com.scms.app.exception.AccountLockedException;
 import com.scms.app.exception.DuplicateUserException;
 import com.scms.app.exception.InvalidPasswordException;
 import com.scms.app.exception.UserNotFoundException;
-import com.scms.app.model.LoginHistory;
 import com.scms.app.model.User;
-import com.scms.app.model.UserRole;
-import com.scms.app.repository.LoginHistoryRepository;
 import com.scms.app.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * 사용자 관리 Service
@@ -31,18 +36,37 @@ import java.util.stream.Collectors;
 @Slf4j
 public class UserService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("studentNum", "name", "department", "grade", "createdAt");
+
     private final UserRepository userRepository;
-    private final LoginHistoryRepository loginHistoryRepository;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final LoginHistoryWriter loginHistoryWriter;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginRateLimiter loginRateLimiter;
+    private final UserSnapshotService userSnapshotService;
+    private final TransactionTemplate transactionTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     /**
      * 로그인
+     * - BCrypt 비교는 PasswordVerifier 전용 스레드 풀에서 실행되므로, 대기하는 동안 DB 커넥션을 잡고 있지 않도록
+     *   트랜잭션 없이 조회한 뒤 결과 반영만 별도 트랜잭션으로 처리
+     * - 저장된 해시가 현재 방식/cost보다 약하면 로그인 성공 시 다시 해시하여 저장
+     * - 실패 횟수는 LoginRateLimiter가 메모리에서 집계하고, 한도에 도달해 잠금으로 전환될 때만 users에 저장
+     * - 로그인 이력은 LoginHistoryWriter 대기열로 넘겨 비동기 배치 저장
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request, HttpServletRequest httpRequest) {
+        // 실패가 누적된 IP/학번은 사용자 조회와 비밀번호 비교 전에 거절
+        String clientIp = getClientIp(httpRequest);
+        loginRateLimiter.checkAllowed(request.getStudentNum(), clientIp);
+
         // 학번으로 사용자 조회
-        User user = userRepository.findByStudentNumAndNotDeleted(request.getStudentNum())
-                .orElseThrow(() -> new UserNotFoundException("학번 또는 비밀번호가 일치하지 않습니다"));
+        User user = userRepository.findByStudentNumAndNotDeleted(request.getStudentNum()).orElse(null);
+        if (user == null) {
+            loginRateLimiter.recordFailure(null, clientIp);
+            throw new UserNotFoundException("학번 또는 비밀번호가 일치하지 않습니다");
+        }
 
         // 계정 잠금 확인
         if (user.getLocked()) {
@@ -51,17 +75,40 @@ public class UserService {
         }
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            user.incrementFailCount();
-            userRepository.save(user);
-            saveLoginHistory(user, httpRequest, false, "비밀번호 불일치");
+        PasswordVerifier.Verification verification =
+                passwordVerifier.verifyAndUpgrade(request.getPassword(), user.getPassword());
+        boolean matched = verification.matched();
+
+        saveLoginHistory(user, httpRequest, matched, matched ? null : "비밀번호 불일치");
+
+        if (!matched) {
+            // 실패 횟수는 시도 제한기에서만 집계하고, 잠금으로 전환될 때만 저장
+            int failures = loginRateLimiter.recordFailure(user.getStudentNum(), clientIp);
+            if (failures >= loginRateLimiter.getAccountMaxFailures()) {
+                Integer locked = transactionTemplate.execute(status ->
+                        userRepository.lockAfterFailures(user.getUserId(), failures));
+                if (locked != null && locked > 0) {
+                    userSnapshotService.evict(user.getUserId());
+                    log.warn("로그인 실패 누적으로 계정 잠금: 학번 {} ({}회)", user.getStudentNum(), failures);
+                }
+            }
             throw new InvalidPasswordException("학번 또는 비밀번호가 일치하지 않습니다");
         }
 
-        // 로그인 성공
-        user.resetFailCount();
-        userRepository.save(user);
-        saveLoginHistory(user, httpRequest, true, null);
+        loginRateLimiter.reset(user.getStudentNum());
+
+        // 이전 실패 횟수가 남아 있거나 해시를 갱신하는 경우에만 쓰기 트랜잭션 실행
+        if (user.getFailCnt() > 0 || verification.upgradedPassword() != null) {
+            transactionTemplate.executeWithoutResult(status -> {
+                User managed = userRepository.findById(user.getUserId())
+                        .orElseThrow(() -> new UserNotFoundException("학번 또는 비밀번호가 일치하지 않습니다"));
+                managed.resetFailCount();
+                if (verification.upgradedPassword() != null) {
+                    managed.setPassword(verification.upgradedPassword());
+                    log.info("비밀번호 해시 갱신: 사용자 ID {}", managed.getUserId());
+                }
+            });
+        }
 
         // 최초 로그인 여부 확인 (초기 비밀번호: 생년월일 6자리)
         String initialPassword = user.getBirthDate().format(DateTimeFormatter.ofPattern("yyMMdd"));
@@ -80,44 +127,28 @@ public class UserService {
     }
 
     /**
-     * 로그인 이력 저장
+     * 로그인 이력 저장 (비동기)
      */
     private void saveLoginHistory(User user, HttpServletRequest request, boolean success, String failReason) {
-        String ipAddress = getClientIp(request);
-        String userAgent = request.getHeader("User-Agent");
-
-        LoginHistory history = LoginHistory.builder()
-                .user(user)
-                .ipAddress(ipAddress)
-                .userAgent(userAgent)
-                .isSuccess(success)
-                .failReason(failReason)
-                .build();
-
-        loginHistoryRepository.save(history);
+        loginHistoryWriter.record(user.getUserId(), getClientIp(request), request.getHeader("User-Agent"),
+                success, failReason);
     }
 
     /**
      * 클라이언트 IP 주소 가져오기
+     * - 요청 헤더는 클라이언트가 임의로 넣을 수 있으므로 직접 읽지 않음
+     * - 프록시 뒤에서는 server.forward-headers-strategy(native)가 신뢰하는 프록시
+     *   (server.tomcat.remoteip.internal-proxies)가 보낸 X-Forwarded-For만 remoteAddr에 반영
      */
     private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        return ip;
+        return request.getRemoteAddr();
     }
 
     /**
      * 사용자 생성 (관리자용)
+     * - 초기 비밀번호 해시는 트랜잭션을 열기 전에 PasswordVerifier 스레드 풀에서 계산하고, 저장만 짧은 트랜잭션으로 실행
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse createUser(UserCreateRequest request) {
         // 학번 중복 확인
         if (userRepository.existsByStudentNum(request.getStudentNum())) {
@@ -131,7 +162,7 @@ public class UserService {
 
         // 초기 비밀번호: 생년월일 6자리 (YYMMDD)
         String initialPassword = request.getBirthDate().format(DateTimeFormatter.ofPattern("yyMMdd"));
-        String encodedPassword = passwordEncoder.encode(initialPassword);
+        String encodedPassword = passwordVerifier.encode(initialPassword);
 
         User user = User.builder()
                 .studentNum(request.getStudentNum())
@@ -145,7 +176,7 @@ public class UserService {
                 .role(request.getRole())
                 .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser = transactionTemplate.execute(status -> userRepository.save(user));
         log.info("사용자 생성 완료: {} (학번: {})", savedUser.getName(), savedUser.getStudentNum());
 
         return UserResponse.from(savedUser);
@@ -178,6 +209,7 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        userSnapshotService.evict(updatedUser.getUserId());
         log.info("사용자 정보 수정 완료: {} (ID: {})", updatedUser.getName(), updatedUser.getUserId());
 
         return UserResponse.from(updatedUser);
@@ -185,14 +217,16 @@ public class UserService {
 
     /**
      * 비밀번호 변경
+     * - 비교와 새 해시 계산은 PasswordVerifier 스레드 풀에서 트랜잭션 없이 처리하고, 저장만 짧은 트랜잭션으로 실행
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(Integer userId, PasswordChangeRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: ID " + userId));
+        String currentHash = user.getPassword();
 
         // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
+        if (!passwordVerifier.matches(request.getCurrentPassword(), user.getPassword())) {
             throw new InvalidPasswordException("현재 비밀번호가 일치하지 않습니다");
         }
 
@@ -201,18 +235,25 @@ public class UserService {
             throw new InvalidPasswordException("새 비밀번호가 일치하지 않습니다");
         }
 
-        // 비밀번호 변경
-        String encodedPassword = passwordEncoder.encode(request.getNewPassword());
-        user.setPassword(encodedPassword);
-        userRepository.save(user);
+        // 비밀번호 변경 (확인 이후 다른 요청이 먼저 변경했다면 덮어쓰지 않음)
+        String encodedPassword = passwordVerifier.encode(request.getNewPassword());
+        transactionTemplate.executeWithoutResult(status -> {
+            User managed = userRepository.findById(userId)
+                    .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: ID " + userId));
+            if (!currentHash.equals(managed.getPassword())) {
+                throw new InvalidPasswordException("비밀번호가 이미 변경되었습니다. 다시 시도해주세요");
+            }
+            managed.setPassword(encodedPassword);
+        });
 
         log.info("비밀번호 변경 완료: {} (ID: {})", user.getName(), user.getUserId());
     }
 
     /**
      * 비밀번호 재설정 (비밀번호 찾기)
+     * - 해시 계산은 트랜잭션을 열기 전에 PasswordVerifier 스레드 풀에서 처리
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void resetPassword(PasswordResetRequest request) {
         User user = userRepository.findByStudentNumAndNotDeleted(request.getStudentNum())
                 .orElseThrow(() -> new UserNotFoundException("등록된 회원이 없습니다"));
@@ -225,11 +266,15 @@ public class UserService {
 
         // 비밀번호를 생년월일 6자리로 초기화
         String initialPassword = request.getBirthDate().format(DateTimeFormatter.ofPattern("yyMMdd"));
-        String encodedPassword = passwordEncoder.encode(initialPassword);
-        user.setPassword(encodedPassword);
-        user.unlock(); // 계정 잠금 해제
+        String encodedPassword = passwordVerifier.encode(initialPassword);
+        transactionTemplate.executeWithoutResult(status -> {
+            User managed = userRepository.findById(user.getUserId())
+                    .orElseThrow(() -> new UserNotFoundException("등록된 회원이 없습니다"));
+            managed.setPassword(encodedPassword);
+            managed.unlock(); // 계정 잠금 해제
+        });
+        loginRateLimiter.reset(user.getStudentNum());
 
-        userRepository.save(user);
         log.info("비밀번호 재설정 완료: {} (학번: {})", user.getName(), user.getStudentNum());
     }
 
@@ -258,21 +303,47 @@ public class UserService {
     }
 
     /**
-     * 모든 사용자 조회
+     * 사용자 목록 검색 (페이지 단위, 목록용 컬럼만 조회)
+     * - 지정된 조건만 WHERE 절에 넣어 조건+학번 인덱스로 정렬 없이 읽음 (NDJSON 내보내기와 같은 SQL)
+     * - 마지막 페이지처럼 전체 수를 알 수 있으면 COUNT 쿼리를 생략
+     *
+     * @param sort 정렬 기준 "속성,방향" (studentNum, name, department, grade, createdAt / asc, desc), 생략 시 학번순
      */
-    public List<UserResponse> getAllUsers() {
-        return userRepository.findAllNotDeleted().stream()
-                .map(UserResponse::from)
-                .collect(Collectors.toList());
+    public Page<UserSummaryResponse> searchUsers(UserSearchFilter filter, int page, int size, String sort) {
+        if (page < 0) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상이어야 합니다.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        Pageable pageable = PageRequest.of(page, size, parseSort(sort));
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = UserSearchQuery.where(filter, params);
+        params.addValue("limit", pageable.getPageSize());
+        params.addValue("offset", pageable.getOffset());
+
+        List<UserSummaryResponse> content = namedParameterJdbcTemplate.query(
+                UserSearchQuery.SELECT + where + UserSearchQuery.orderBy(pageable.getSort()) +
+                " LIMIT :limit OFFSET :offset", params, UserSearchQuery.SUMMARY_MAPPER);
+        return PageableExecutionUtils.getPage(content, pageable, () -> namedParameterJdbcTemplate.queryForObject(
+                UserSearchQuery.COUNT + where, params, Long.class));
     }
 
-    /**
-     * 역할별 사용자 조회
-     */
-    public List<UserResponse> getUsersByRole(UserRole role) {
-        return userRepository.findByRoleAndNotDeleted(role).stream()
-                .map(UserResponse::from)
-                .collect(Collectors.toList());
+    private Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by("studentNum");
+        }
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!SORTABLE_PROPERTIES.contains(property)) {
+            throw new IllegalArgumentException("정렬할 수 없는 항목입니다: " + property);
+        }
+        Sort.Direction direction = parts.length > 1
+                ? Sort.Direction.fromOptionalString(parts[1].trim()).orElse(Sort.Direction.ASC)
+                : Sort.Direction.ASC;
+        // 같은 값이 많은 항목(학과, 학년 등)도 페이지 간 순서가 고정되도록 사용자 ID를 보조 정렬로 추가
+        return Sort.by(direction, property).and(Sort.by("userId"));
     }
 
     /**
@@ -285,6 +356,7 @@ public class UserService {
 
         user.delete();
         userRepository.save(user);
+        userSnapshotService.evict(userId);
 
         log.info("사용자 삭제 완료: {} (ID: {})", user.getName(), user.getUserId());
     }
@@ -298,7 +370,9 @@ public class UserService {
                 .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: ID " + userId));
 
         user.unlock();
+        loginRateLimiter.reset(user.getStudentNum());
         userRepository.save(user);
+        userSnapshotService.evict(userId);
 
         log.info("계정 잠금 해제: {} (ID: {})", user.getName(), user.getUserId());
     }
@@ -0,0 +1,44 @@
+package com.scms.app.service;
+
+import com.scms.app.config.CacheConfig;
+import com.scms.app.dto.SessionUser;
+import com.scms.app.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 로그인 사용자 스냅샷 Service
+ * - 세션 사용자 정보와 신청/후기 작성 시 사용자 확인을 users 행 재조회 없이 캐시에서 처리
+ * - 이름/역할 등이 바뀌는 작업(UserService의 수정/삭제/잠금 해제)에서 evict를 호출해야 함
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class UserSnapshotService {
+
+    private final UserRepository userRepository;
+
+    /**
+     * 사용자 스냅샷 조회 (없거나 삭제된 사용자는 null, null은 캐시하지 않음)
+     */
+    @Cacheable(cacheNames = CacheConfig.USER_SNAPSHOT, key = "#userId", unless = "#result == null")
+    public SessionUser getSnapshot(Integer userId) {
+        return userRepository.findById(userId)
+                .filter(user -> !user.isDeleted())
+                .map(SessionUser::from)
+                .orElse(null);
+    }
+
+    /**
+     * 사용자 스냅샷 무효화 (트랜잭션 커밋 후 적용)
+     */
+    @CacheEvict(cacheNames = CacheConfig.USER_SNAPSHOT, key = "#userId")
+    public void evict(Integer userId) {
+        log.debug("사용자 스냅샷 무효화: 사용자 ID {}", userId);
+    }
+}
@@ -0,0 +1,90 @@
+package com.scms.app.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 읽기/기록 유틸리티 (신청자 내보내기, 로그인 이력 보관 파일, 사용자 일괄 등록 공용)
+ */
+public final class CsvUtils {
+
+    public static final String LINE_SEPARATOR = "\r\n";
+
+    private CsvUtils() {
+    }
+
+    /**
+     * RFC 4180 규칙으로 필드 이스케이프 (쉼표/따옴표/줄바꿈 포함 시 따옴표로 감쌈, null은 빈 값)
+     */
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    /**
+     * 스프레드시트에서 수식으로 해석되는 값(=, +, -, @, 탭, CR로 시작) 앞에 작은따옴표를 붙임
+     * - 사용자가 입력한 값을 사람이 여는 CSV에 기록할 때 사용 (기계용 보관 파일에는 사용하지 않음)
+     */
+    public static String neutralizeFormula(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    /**
+     * 필드를 쉼표로 이어 한 줄 기록 (CRLF 줄바꿈)
+     */
+    public static void writeLine(Writer writer, String[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(fields[i]));
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * CSV 한 줄 분리 (RFC 4180 따옴표 처리, 필드 안 줄바꿈은 지원하지 않음)
+     */
+    public static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,56 @@
+package com.scms.app.config;
+
+import com.scms.app.model.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 속성 코덱 왕복 검증 (AuthController.login이 저장하는 속성 기준)
+ */
+class SessionAttributeCodecTest {
+
+    @Test
+    void roundTripsLoginAttributes() {
+        assertThat(roundTrip(2022001)).isEqualTo(2022001);
+        assertThat(roundTrip("정우진")).isEqualTo("정우진");
+        assertThat(roundTrip(Boolean.TRUE)).isEqualTo(true);
+        assertThat(roundTrip(UserRole.ADMIN)).isSameAs(UserRole.ADMIN);
+        assertThat(roundTrip(null)).isNull();
+    }
+
+    @Test
+    void storesLoginSecurityContextCompactly() {
+        SecurityContext context = new SecurityContextImpl(new UsernamePasswordAuthenticationToken(
+                2022001, null, List.of(new SimpleGrantedAuthority("ROLE_STUDENT"))));
+
+        byte[] encoded = SessionAttributeCodec.encode(context);
+        Authentication authentication = ((SecurityContext) SessionAttributeCodec.decode(encoded)).getAuthentication();
+
+        assertThat(encoded.length).isLessThan(64);
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(authentication.getPrincipal()).isEqualTo(2022001);
+        assertThat(authentication.getAuthorities())
+                .extracting(authority -> authority.getAuthority())
+                .containsExactly("ROLE_STUDENT");
+    }
+
+    @Test
+    void fallsBackToJavaSerializationForOtherTypes() {
+        LocalDate date = LocalDate.of(2025, 3, 2);
+
+        assertThat(roundTrip(date)).isEqualTo(date);
+    }
+
+    private Object roundTrip(Object value) {
+        return SessionAttributeCodec.decode(SessionAttributeCodec.encode(value));
+    }
+}
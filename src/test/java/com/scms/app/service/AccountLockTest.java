@@ -0,0 +1,110 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.LoginRequest;
+import com.scms.app.exception.AccountLockedException;
+import com.scms.app.exception.InvalidPasswordException;
+import com.scms.app.exception.LoginRateLimitedException;
+import com.scms.app.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로그인 실패 누적에 따른 계정 잠금 검증
+ * - 실패 횟수는 시도 제한기 메모리에서 집계하고, users에는 잠금 전환 시에만 저장
+ * - 테스트마다 다른 IP를 사용하므로 IP별 시도 제한에 걸리지 않음
+ */
+class AccountLockTest extends IntegrationTestSupport {
+
+    private static final AtomicInteger IP_SEQUENCE = new AtomicInteger();
+    private static final String PASSWORD = "030101";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    private MockHttpServletRequest httpRequest;
+
+    @BeforeEach
+    void setUp() {
+        httpRequest = new MockHttpServletRequest();
+        httpRequest.setRemoteAddr("10.7.0." + IP_SEQUENCE.incrementAndGet());
+    }
+
+    @Test
+    void locksAccountWhenFailuresReachLimit() {
+        User user = createUser();
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> userService.login(new LoginRequest(user.getStudentNum(), "wrong"), httpRequest))
+                    .isInstanceOf(InvalidPasswordException.class);
+        }
+
+        User locked = userRepository.findById(user.getUserId()).orElseThrow();
+        assertThat(locked.getLocked()).isTrue();
+        assertThat(locked.getFailCnt()).isEqualTo(5);
+        assertThatThrownBy(() -> userService.login(new LoginRequest(user.getStudentNum(), PASSWORD), httpRequest))
+                .isInstanceOf(LoginRateLimitedException.class);
+
+        // 재기동이나 다른 인스턴스처럼 메모리 카운터가 없어도 저장된 잠금은 유지
+        loginRateLimiter.reset(user.getStudentNum());
+        assertThatThrownBy(() -> userService.login(new LoginRequest(user.getStudentNum(), PASSWORD), httpRequest))
+                .isInstanceOf(AccountLockedException.class);
+    }
+
+    @Test
+    void failuresBelowLimitAreNotWrittenAndSuccessfulLoginResetsThem() {
+        User user = createUser();
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> userService.login(new LoginRequest(user.getStudentNum(), "wrong"), httpRequest))
+                    .isInstanceOf(InvalidPasswordException.class);
+        }
+        assertThat(userRepository.findById(user.getUserId()).orElseThrow().getFailCnt()).isZero();
+
+        userService.login(new LoginRequest(user.getStudentNum(), PASSWORD), httpRequest);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> userService.login(new LoginRequest(user.getStudentNum(), "wrong"), httpRequest))
+                    .isInstanceOf(InvalidPasswordException.class);
+        }
+        User reset = userRepository.findById(user.getUserId()).orElseThrow();
+        assertThat(reset.getFailCnt()).isZero();
+        assertThat(reset.getLocked()).isFalse();
+    }
+
+    @Test
+    void unlockAccountClearsLockAndFailCount() {
+        User user = createUser();
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> userService.login(new LoginRequest(user.getStudentNum(), "wrong"), httpRequest))
+                    .isInstanceOf(InvalidPasswordException.class);
+        }
+
+        userService.unlockAccount(user.getUserId());
+
+        User unlocked = userRepository.findById(user.getUserId()).orElseThrow();
+        assertThat(unlocked.getLocked()).isFalse();
+        assertThat(unlocked.getFailCnt()).isZero();
+        assertThat(userService.login(new LoginRequest(user.getStudentNum(), PASSWORD), httpRequest).getUserId())
+                .isEqualTo(user.getUserId());
+    }
+
+    @Override
+    protected User createUser() {
+        return userRepository.save(student()
+                .password(passwordEncoder.encode(PASSWORD))
+                .build());
+    }
+}
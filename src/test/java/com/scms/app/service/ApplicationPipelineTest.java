@@ -0,0 +1,117 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.ApplicationTicket;
+import com.scms.app.model.Program;
+import com.scms.app.model.User;
+import com.scms.app.repository.ProgramApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비동기 신청 파이프라인의 접수, 일괄 저장, 티켓 상태 검증
+ * - 저장 주기를 길게 잡고 flush()를 직접 호출
+ */
+@SpringBootTest(properties = "scms.application.pipeline.flush-interval-ms=3600000")
+class ApplicationPipelineTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ApplicationPipeline applicationPipeline;
+
+    @Autowired
+    private ProgramApplicationRepository applicationRepository;
+
+    private Program program;
+
+    @BeforeEach
+    void setUp() {
+        program = createOpenProgram("파이프라인 테스트 프로그램", 2);
+    }
+
+    @Test
+    void submitIssuesReceivedTicketAndFlushCompletesIt() {
+        User user = createUser();
+
+        ApplicationTicket ticket = applicationPipeline.submit(user.getUserId(), program.getProgramId());
+
+        assertThat(ticket.getStatus()).isEqualTo(ApplicationTicket.Status.RECEIVED);
+        assertThat(applicationPipeline.getTicket(ticket.getTicketId(), user.getUserId()).getStatus())
+                .isEqualTo(ApplicationTicket.Status.RECEIVED);
+        assertThat(applicationPipeline.getPendingCount(program.getProgramId())).isEqualTo(1);
+
+        applicationPipeline.flush();
+
+        ApplicationTicket processed = applicationPipeline.getTicket(ticket.getTicketId(), user.getUserId());
+        assertThat(processed.getStatus()).isEqualTo(ApplicationTicket.Status.COMPLETED);
+        assertThat(processed.getProcessedAt()).isNotNull();
+        assertThat(applicationPipeline.getPendingCount(program.getProgramId())).isZero();
+        assertThat(applicationRepository.findByUserIdAndProgramId(user.getUserId(), program.getProgramId()))
+                .isPresent();
+        assertThat(programRepository.findById(program.getProgramId()).orElseThrow().getCurrentParticipants())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void ticketIsVisibleOnlyToItsOwner() {
+        User user = createUser();
+        User other = createUser();
+        ApplicationTicket ticket = applicationPipeline.submit(user.getUserId(), program.getProgramId());
+
+        assertThatThrownBy(() -> applicationPipeline.getTicket(ticket.getTicketId(), other.getUserId()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        applicationPipeline.flush();
+    }
+
+    @Test
+    void duplicateSubmitIsRejectedWhileQueued() {
+        User user = createUser();
+        applicationPipeline.submit(user.getUserId(), program.getProgramId());
+
+        assertThatThrownBy(() -> applicationPipeline.submit(user.getUserId(), program.getProgramId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 신청한");
+
+        applicationPipeline.flush();
+    }
+
+    @Test
+    void unknownUserIsRejectedAtSubmit() {
+        assertThatThrownBy(() -> applicationPipeline.submit(Integer.MAX_VALUE, program.getProgramId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void batchWriteRejectsOnlyInvalidRows() {
+        User deletedLater = createUser();
+        User first = createUser();
+        User second = createUser();
+        User overCapacity = createUser();
+
+        ApplicationTicket deletedTicket = applicationPipeline.submit(deletedLater.getUserId(), program.getProgramId());
+        ApplicationTicket firstTicket = applicationPipeline.submit(first.getUserId(), program.getProgramId());
+        ApplicationTicket secondTicket = applicationPipeline.submit(second.getUserId(), program.getProgramId());
+        ApplicationTicket overTicket = applicationPipeline.submit(overCapacity.getUserId(), program.getProgramId());
+
+        // 접수 후 저장 전에 탈퇴한 사용자
+        deletedLater.delete();
+        userRepository.save(deletedLater);
+
+        applicationPipeline.flush();
+
+        assertThat(applicationPipeline.getTicket(deletedTicket.getTicketId(), deletedLater.getUserId()).getStatus())
+                .isEqualTo(ApplicationTicket.Status.REJECTED);
+        assertThat(applicationPipeline.getTicket(firstTicket.getTicketId(), first.getUserId()).getStatus())
+                .isEqualTo(ApplicationTicket.Status.COMPLETED);
+        assertThat(applicationPipeline.getTicket(secondTicket.getTicketId(), second.getUserId()).getStatus())
+                .isEqualTo(ApplicationTicket.Status.COMPLETED);
+        assertThat(applicationPipeline.getTicket(overTicket.getTicketId(), overCapacity.getUserId()).getMessage())
+                .contains("정원");
+        assertThat(applicationRepository.countActiveApplicationsByProgramId(program.getProgramId())).isEqualTo(2);
+    }
+}
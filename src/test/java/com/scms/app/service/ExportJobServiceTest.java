@@ -0,0 +1,85 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.ApplicationExportFilter;
+import com.scms.app.dto.ExportJob;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 내보내기 작업 상태가 DB(export_jobs)에 저장되고 정리되는지 검증
+ */
+class ExportJobServiceTest extends IntegrationTestSupport {
+
+    private static final int USER_ID = 900_001;
+
+    @Autowired
+    private ExportJobService exportJobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void completedJobIsReadFromDatabaseByOwnerOnly() throws Exception {
+        ExportJob submitted = exportJobService.submit(USER_ID, "csv",
+                ApplicationExportFilter.ofPrograms(List.of(-1)), "없는프로그램", false);
+
+        ExportJob job = awaitFinished(submitted.getJobId());
+
+        assertThat(job.getStatus()).isEqualTo(ExportJob.Status.COMPLETED);
+        assertThat(job.getFileName()).startsWith("없는프로그램_신청자목록_").endsWith(".csv");
+        assertThat(exportJobService.getDownloadableJob(job.getJobId(), USER_ID).getFile())
+                .satisfies(file -> assertThat(Files.size(file)).isEqualTo(job.getFileSize()));
+        assertThatThrownBy(() -> exportJobService.getJob(job.getJobId(), USER_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void longFilterDescriptionIsTruncatedToFitTargetColumn() throws Exception {
+        List<Integer> programIds = IntStream.rangeClosed(-200, -1).boxed().toList();
+
+        ExportJob submitted = exportJobService.submit(USER_ID, "csv",
+                ApplicationExportFilter.ofPrograms(programIds), null, false);
+
+        assertThat(submitted.getTarget()).hasSize(255);
+        assertThat(awaitFinished(submitted.getJobId()).getStatus()).isEqualTo(ExportJob.Status.COMPLETED);
+    }
+
+    @Test
+    void cleanupFailsAbandonedJobs() {
+        String jobId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO export_jobs (job_id, user_id, target, format, sheet_per_program, " +
+                        "file_name, stored_file, status, requested_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                jobId, USER_ID, "전체 프로그램", "csv", false, "일괄_신청자목록.csv", "export-" + jobId + ".csv",
+                "QUEUED", Timestamp.valueOf(LocalDateTime.now().minusDays(1)));
+
+        exportJobService.cleanup();
+
+        ExportJob job = exportJobService.getJob(jobId, USER_ID);
+        assertThat(job.getStatus()).isEqualTo(ExportJob.Status.FAILED);
+        assertThatThrownBy(() -> exportJobService.getDownloadableJob(jobId, USER_ID))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ExportJob awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            ExportJob job = exportJobService.getJob(jobId, USER_ID);
+            if (job.getStatus() == ExportJob.Status.COMPLETED || job.getStatus() == ExportJob.Status.FAILED
+                    || System.currentTimeMillis() > deadline) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+    }
+}
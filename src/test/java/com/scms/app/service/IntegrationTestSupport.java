@@ -0,0 +1,82 @@
+package com.scms.app.service;
+
+import com.scms.app.config.DataLoader;
+import com.scms.app.model.Program;
+import com.scms.app.model.ProgramStatus;
+import com.scms.app.model.User;
+import com.scms.app.model.UserRole;
+import com.scms.app.repository.ProgramRepository;
+import com.scms.app.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서비스 통합 테스트 공통 설정과 픽스처
+ * - 초기 데이터 적재(DataLoader)는 실행하지 않음
+ * - 학번/이메일은 모든 테스트 클래스가 공유하는 순번으로 만들므로 클래스끼리 겹치지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+abstract class IntegrationTestSupport {
+
+    private static final int STUDENT_NUM_BASE = 20_100_000;
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected ProgramRepository programRepository;
+
+    @MockBean
+    private DataLoader dataLoader;
+
+    /**
+     * 아직 사용하지 않은 학번
+     */
+    protected static int nextStudentNum() {
+        return STUDENT_NUM_BASE + SEQUENCE.incrementAndGet();
+    }
+
+    /**
+     * 기본값을 채운 학생 (학번, 이름, 이메일은 고유)
+     */
+    protected static User.UserBuilder student() {
+        int studentNum = nextStudentNum();
+        return User.builder()
+                .studentNum(studentNum)
+                .name("학생" + studentNum)
+                .email("student" + studentNum + "@scms.test")
+                .password("unused")
+                .birthDate(LocalDate.of(2003, 1, 1))
+                .role(UserRole.STUDENT)
+                .locked(false)
+                .failCnt(0);
+    }
+
+    protected User createUser() {
+        return userRepository.save(student().build());
+    }
+
+    /**
+     * 신청 기간 중인 모집 중 프로그램
+     */
+    protected Program createOpenProgram(String title, int maxParticipants) {
+        return programRepository.save(Program.builder()
+                .title(title)
+                .category("학습역량")
+                .applicationStartDate(LocalDateTime.now().minusDays(1))
+                .applicationEndDate(LocalDateTime.now().plusDays(7))
+                .maxParticipants(maxParticipants)
+                .currentParticipants(0)
+                .hits(0)
+                .status(ProgramStatus.OPEN)
+                .build());
+    }
+}
@@ -0,0 +1,172 @@
+package com.scms.app.service;
+
+import com.scms.app.model.LoginHistory;
+import com.scms.app.model.User;
+import com.scms.app.repository.LoginHistoryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 이력 일일 집계, 보관 파일 생성/삭제 재개, 파티션 경계값 파싱 검증
+ * - 테스트마다 서로 다른 날짜를 집계하므로 다른 테스트의 이력과 섞이지 않음
+ */
+class LoginHistoryRetentionServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private LoginHistoryRetentionService retentionService;
+
+    @Autowired
+    private LoginHistoryRepository loginHistoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rollupDayCountsLoginsPerHourAndFailuresPerIp() {
+        LocalDate date = LocalDate.of(2001, 3, 1);
+        User first = createUser();
+        User second = createUser();
+        saveHistory(first, date.atTime(9, 5), "10.0.0.1", true);
+        saveHistory(first, date.atTime(9, 40), "10.0.0.1", false);
+        saveHistory(second, date.atTime(9, 50), "10.0.0.1", false);
+        saveHistory(second, date.atTime(14, 0), "10.0.0.2", false);
+        // 다음 날 이력은 집계 대상이 아님
+        saveHistory(second, date.plusDays(1).atTime(0, 0), "10.0.0.2", false);
+
+        retentionService.rollupDay(date);
+
+        Map<String, Object> nine = jdbcTemplate.queryForMap(
+                "SELECT success_count, failure_count, user_count FROM login_hourly_rollups " +
+                "WHERE stat_date = ? AND stat_hour = 9", date);
+        assertThat(((Number) nine.get("success_count")).longValue()).isEqualTo(1);
+        assertThat(((Number) nine.get("failure_count")).longValue()).isEqualTo(2);
+        assertThat(((Number) nine.get("user_count")).longValue()).isEqualTo(2);
+        assertThat(countRows("login_hourly_rollups", date)).isEqualTo(2);
+
+        Map<String, Object> ip = jdbcTemplate.queryForMap(
+                "SELECT failure_count, user_count FROM login_failure_ip_rollups " +
+                "WHERE stat_date = ? AND ip_address = '10.0.0.1'", date);
+        assertThat(((Number) ip.get("failure_count")).longValue()).isEqualTo(2);
+        assertThat(((Number) ip.get("user_count")).longValue()).isEqualTo(2);
+        assertThat(countRows("login_failure_ip_rollups", date)).isEqualTo(2);
+    }
+
+    @Test
+    void rollupDayReplacesPreviousResultForTheSameDate() {
+        LocalDate date = LocalDate.of(2001, 4, 1);
+        User user = createUser();
+        saveHistory(user, date.atTime(10, 0), "10.0.1.1", false);
+
+        retentionService.rollupDay(date);
+        saveHistory(user, date.atTime(10, 30), "10.0.1.1", false);
+        retentionService.rollupDay(date);
+
+        assertThat(countRows("login_hourly_rollups", date)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT failure_count FROM login_failure_ip_rollups WHERE stat_date = ?", Long.class, date))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void parseBoundReadsDateTimeDateAndMaxValue() {
+        assertThat(LoginHistoryRetentionService.parseBound("'2026-11-01 00:00:00'"))
+                .isEqualTo(LocalDateTime.of(2026, 11, 1, 0, 0));
+        assertThat(LoginHistoryRetentionService.parseBound("'2026-12-01'"))
+                .isEqualTo(LocalDateTime.of(2026, 12, 1, 0, 0));
+        assertThat(LoginHistoryRetentionService.parseBound("MAXVALUE")).isNull();
+        assertThat(LoginHistoryRetentionService.parseBound(null)).isNull();
+    }
+
+    @Test
+    void archiveNeverOverwritesExistingFile(@TempDir Path directory) throws IOException {
+        YearMonth month = YearMonth.now().minusYears(3);
+        User user = createUser();
+        saveHistory(user, month.atDay(2).atTime(9, 0), "10.5.0.1", true);
+        Path existing = directory.resolve(archiveBase(month) + ".csv.gz");
+        Files.writeString(existing, "existing");
+
+        archiveInto(directory);
+
+        assertThat(Files.readString(existing)).isEqualTo("existing");
+        assertThat(archivedLines(directory.resolve(archiveBase(month) + "-2.csv.gz"))).isEqualTo(2);
+        assertThat(countHistory(user)).isZero();
+        assertThat(directory.resolve(archiveBase(month) + ".delete-pending")).doesNotExist();
+    }
+
+    @Test
+    void interruptedDeleteResumesWithoutArchivingAgain(@TempDir Path directory) throws IOException {
+        YearMonth month = YearMonth.now().minusYears(4);
+        User user = createUser();
+        saveHistory(user, month.atDay(2).atTime(9, 0), "10.5.0.2", true);
+        long archivedId = jdbcTemplate.queryForObject(
+                "SELECT MAX(history_id) FROM login_history WHERE user_id = ?", Long.class, user.getUserId());
+        saveHistory(user, month.atDay(3).atTime(9, 0), "10.5.0.2", false);
+        // 이전 실행이 첫 행까지 보관한 뒤 삭제 도중 중단된 상태
+        Files.writeString(directory.resolve(archiveBase(month) + ".delete-pending"), Long.toString(archivedId));
+
+        archiveInto(directory);
+
+        assertThat(countHistory(user)).isZero();
+        assertThat(archivedLines(directory.resolve(archiveBase(month) + ".csv.gz"))).isEqualTo(2);
+        assertThat(directory.resolve(archiveBase(month) + ".delete-pending")).doesNotExist();
+    }
+
+    private void archiveInto(Path directory) throws IOException {
+        Object previous = ReflectionTestUtils.getField(retentionService, "archiveDirectory");
+        ReflectionTestUtils.setField(retentionService, "archiveDirectory", directory.toString());
+        try {
+            retentionService.archiveExpired(false);
+        } finally {
+            ReflectionTestUtils.setField(retentionService, "archiveDirectory", previous);
+        }
+    }
+
+    private String archiveBase(YearMonth month) {
+        return "login_history_" + month.atDay(1).format(DateTimeFormatter.ofPattern("'p'yyyyMM"));
+    }
+
+    private long archivedLines(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().count();
+        }
+    }
+
+    private long countHistory(User user) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM login_history WHERE user_id = ?", Long.class,
+                user.getUserId());
+    }
+
+    private long countRows(String table, LocalDate date) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE stat_date = ?", Long.class, date);
+    }
+
+    private void saveHistory(User user, LocalDateTime loginAt, String ipAddress, boolean success) {
+        loginHistoryRepository.save(LoginHistory.builder()
+                .user(user)
+                .loginAt(loginAt)
+                .ipAddress(ipAddress)
+                .userAgent("test")
+                .isSuccess(success)
+                .failReason(success ? null : "비밀번호 불일치")
+                .build());
+    }
+}
@@ -0,0 +1,89 @@
+package com.scms.app.service;
+
+import com.scms.app.exception.LoginRateLimitedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로그인 시도 제한기의 슬라이딩 윈도우 계산과 IP/학번별 차단 검증
+ */
+class LoginRateLimiterTest {
+
+    private static final long WINDOW_MILLIS = 600_000;
+
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        loginRateLimiter = new LoginRateLimiter(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(loginRateLimiter, "ipMaxFailures", 3);
+        ReflectionTestUtils.setField(loginRateLimiter, "ipWindowSeconds", 600L);
+        ReflectionTestUtils.setField(loginRateLimiter, "accountMaxFailures", 2);
+        ReflectionTestUtils.setField(loginRateLimiter, "accountWindowSeconds", 3600L);
+        ReflectionTestUtils.setField(loginRateLimiter, "maxKeys", 100L);
+        loginRateLimiter.init();
+    }
+
+    @Test
+    void countsFailuresWithinCurrentWindow() {
+        LoginRateLimiter.SlidingWindowCounter counter = new LoginRateLimiter.SlidingWindowCounter();
+
+        assertThat(counter.increment(1_000, WINDOW_MILLIS)).isEqualTo(1);
+        assertThat(counter.increment(2_000, WINDOW_MILLIS)).isEqualTo(2);
+        assertThat(counter.estimate(WINDOW_MILLIS, WINDOW_MILLIS)).isEqualTo(2);
+    }
+
+    @Test
+    void previousWindowDecaysByElapsedRatio() {
+        LoginRateLimiter.SlidingWindowCounter counter = new LoginRateLimiter.SlidingWindowCounter();
+        for (int i = 0; i < 10; i++) {
+            counter.increment(1_000, WINDOW_MILLIS);
+        }
+
+        // 다음 구간의 절반이 지나면 직전 구간 10건 중 5건만 반영
+        assertThat(counter.estimate(1_000 + WINDOW_MILLIS + WINDOW_MILLIS / 2, WINDOW_MILLIS)).isEqualTo(5);
+        // 두 구간 이상 지나면 초기화
+        assertThat(counter.estimate(1_000 + 2 * WINDOW_MILLIS, WINDOW_MILLIS)).isZero();
+    }
+
+    @Test
+    void retryAfterPointsToEndOfCurrentWindow() {
+        LoginRateLimiter.SlidingWindowCounter counter = new LoginRateLimiter.SlidingWindowCounter();
+        counter.increment(1, WINDOW_MILLIS);
+
+        assertThat(counter.retryAfterSeconds(1 + WINDOW_MILLIS - 10_000, WINDOW_MILLIS)).isEqualTo(11);
+    }
+
+    @Test
+    void rejectsIpAfterMaxFailuresWithoutAffectingOtherIps() {
+        for (int i = 0; i < 3; i++) {
+            assertThatCode(() -> loginRateLimiter.checkAllowed(null, "10.0.0.1")).doesNotThrowAnyException();
+            loginRateLimiter.recordFailure(null, "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> loginRateLimiter.checkAllowed(null, "10.0.0.1"))
+                .isInstanceOf(LoginRateLimitedException.class)
+                .satisfies(e -> assertThat(((LoginRateLimitedException) e).getRetryAfterSeconds()).isPositive());
+        assertThatCode(() -> loginRateLimiter.checkAllowed(null, "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsAccountAfterMaxFailuresFromAnyIpUntilReset() {
+        assertThat(loginRateLimiter.recordFailure(20250001, "10.0.0.1")).isEqualTo(1);
+        assertThat(loginRateLimiter.recordFailure(20250001, "10.0.0.2")).isEqualTo(2);
+
+        assertThatThrownBy(() -> loginRateLimiter.checkAllowed(20250001, "10.0.0.3"))
+                .isInstanceOf(LoginRateLimitedException.class);
+        assertThatCode(() -> loginRateLimiter.checkAllowed(20250002, "10.0.0.3")).doesNotThrowAnyException();
+
+        loginRateLimiter.reset(20250001);
+
+        assertThatCode(() -> loginRateLimiter.checkAllowed(20250001, "10.0.0.3")).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,81 @@
+package com.scms.app.service;
+
+import com.scms.app.config.SecurityConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 시 해시 갱신 대상 판별 검증 (실제로 약한 해시만 다시 해시)
+ */
+class PasswordVerifierTest {
+
+    private static final int STRENGTH = 10;
+
+    private PasswordEncoder passwordEncoder;
+    private PasswordVerifier passwordVerifier;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = new SecurityConfig().passwordEncoder("bcrypt", STRENGTH);
+        passwordVerifier = new PasswordVerifier(passwordEncoder, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(passwordVerifier, "encodingId", "bcrypt");
+        ReflectionTestUtils.setField(passwordVerifier, "bcryptStrength", STRENGTH);
+        ReflectionTestUtils.setField(passwordVerifier, "threads", 1);
+        ReflectionTestUtils.setField(passwordVerifier, "queueCapacity", 4);
+        ReflectionTestUtils.setField(passwordVerifier, "maxWaitMs", 10_000L);
+        ReflectionTestUtils.setField(passwordVerifier, "retryAfterSeconds", 2L);
+        passwordVerifier.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordVerifier.shutdown();
+    }
+
+    @Test
+    void currentHashIsNotUpgraded() {
+        String encoded = passwordEncoder.encode("030101");
+
+        PasswordVerifier.Verification verification = passwordVerifier.verifyAndUpgrade("030101", encoded);
+
+        assertThat(verification.matched()).isTrue();
+        assertThat(verification.upgradedPassword()).isNull();
+    }
+
+    @Test
+    void legacyHashWithCurrentCostOnlyGetsPrefix() {
+        String legacy = new BCryptPasswordEncoder(STRENGTH).encode("030101");
+
+        PasswordVerifier.Verification verification = passwordVerifier.verifyAndUpgrade("030101", legacy);
+
+        assertThat(verification.upgradedPassword()).isEqualTo("{bcrypt}" + legacy);
+        assertThat(passwordEncoder.matches("030101", verification.upgradedPassword())).isTrue();
+    }
+
+    @Test
+    void lowerCostHashIsRehashedWhenIdle() {
+        String weak = new BCryptPasswordEncoder(4).encode("030101");
+
+        PasswordVerifier.Verification verification = passwordVerifier.verifyAndUpgrade("030101", weak);
+
+        assertThat(verification.upgradedPassword()).startsWith("{bcrypt}$2a$10$");
+        assertThat(passwordEncoder.upgradeEncoding(verification.upgradedPassword())).isFalse();
+    }
+
+    @Test
+    void wrongPasswordIsNotUpgraded() {
+        String weak = new BCryptPasswordEncoder(4).encode("030101");
+
+        PasswordVerifier.Verification verification = passwordVerifier.verifyAndUpgrade("000000", weak);
+
+        assertThat(verification.matched()).isFalse();
+        assertThat(verification.upgradedPassword()).isNull();
+    }
+}
@@ -0,0 +1,167 @@
+package com.scms.app.service;
+
+import com.scms.app.model.ApplicationStatus;
+import com.scms.app.model.Program;
+import com.scms.app.model.ProgramApplication;
+import com.scms.app.model.User;
+import com.scms.app.repository.ProgramApplicationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 신청/취소/승인/거부/완료 (단건, 일괄) 처리의 SQL 문 수 검증 (Hibernate Statistics)
+ * - 같은 행을 다시 조회하거나 불필요한 UPDATE가 추가되면 실패
+ */
+class ProgramApplicationStatementCountTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProgramApplicationService applicationService;
+
+    @Autowired
+    private ProgramApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserSnapshotService userSnapshotService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Program program;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        program = createOpenProgram("SQL 문 수 테스트 프로그램", 10);
+
+        user = createUser();
+    }
+
+    @Test
+    void applyProgramRunsFourStatements() {
+        // 사용자는 스냅샷 캐시에서 확인 (로그인 후 요청에서 이미 적재된 상태)
+        userSnapshotService.getSnapshot(user.getUserId());
+
+        // 프로그램 조회, 중복 신청 확인, 신청 INSERT, 좌석 예약 UPDATE
+        statistics.clear();
+        applicationService.applyProgram(user.getUserId(), program.getProgramId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void cancelApplicationRunsThreeStatements() {
+        Integer applicationId = apply();
+
+        // 신청 조회, 신청 UPDATE, 좌석 반환 UPDATE
+        statistics.clear();
+        applicationService.cancelApplication(user.getUserId(), applicationId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(programRepository.findById(program.getProgramId()).orElseThrow().getCurrentParticipants())
+                .isZero();
+    }
+
+    @Test
+    void rejectApplicationRunsThreeStatements() {
+        Integer applicationId = apply();
+
+        // 신청 조회, 신청 UPDATE, 좌석 반환 UPDATE
+        statistics.clear();
+        applicationService.rejectApplication(applicationId, "테스트 거부");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(applicationRepository.findById(applicationId).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.REJECTED);
+    }
+
+    @Test
+    void approveAndCompleteRunTwoStatementsEach() {
+        Integer applicationId = apply();
+
+        // 신청 조회, 신청 UPDATE
+        statistics.clear();
+        applicationService.approveApplication(applicationId);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        applicationService.completeApplication(applicationId);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void bulkRejectReleasesSeatsOncePerProgram() {
+        Program otherProgram = createOpenProgram("SQL 문 수 테스트 프로그램 2", 10);
+        User secondUser = createUser();
+        List<Integer> applicationIds = List.of(
+                apply(user, program),
+                apply(secondUser, program),
+                apply(user, otherProgram));
+
+        // 상태 확인 SELECT, 신청 일괄 UPDATE, 프로그램별 좌석 반환 UPDATE 2회
+        statistics.clear();
+        int rejected = applicationService.rejectApplications(applicationIds, "일괄 거부");
+
+        assertThat(rejected).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(programRepository.findById(program.getProgramId()).orElseThrow().getCurrentParticipants())
+                .isZero();
+        assertThat(programRepository.findById(otherProgram.getProgramId()).orElseThrow().getCurrentParticipants())
+                .isZero();
+        assertThat(applicationRepository.findAllById(applicationIds))
+                .allMatch(application -> application.getStatus() == ApplicationStatus.REJECTED);
+    }
+
+    @Test
+    void bulkApproveRejectsWholeBatchWhenAnyStatusIsInvalid() {
+        Integer pendingId = apply();
+        Integer approvedId = apply(createUser(), program);
+        applicationService.approveApplication(approvedId);
+
+        assertThatThrownBy(() -> applicationService.approveApplications(List.of(pendingId, approvedId)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(String.valueOf(approvedId));
+        assertThat(applicationRepository.findById(pendingId).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.PENDING);
+
+        // 상태 확인 SELECT, 신청 일괄 UPDATE
+        statistics.clear();
+        assertThat(applicationService.approveApplications(List.of(pendingId))).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        assertThat(applicationService.completeApplications(List.of(pendingId, approvedId))).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void bulkApproveRejectsNullIdAsBadRequest() {
+        Integer pendingId = apply();
+
+        assertThatThrownBy(() -> applicationService.approveApplications(Arrays.asList(pendingId, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(applicationRepository.findById(pendingId).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.PENDING);
+    }
+
+    private Integer apply(User applicant, Program target) {
+        return applicationService.applyProgram(applicant.getUserId(), target.getProgramId()).getApplicationId();
+    }
+
+    private Integer apply() {
+        ProgramApplication application = applicationService.applyProgram(user.getUserId(), program.getProgramId());
+        return application.getApplicationId();
+    }
+}
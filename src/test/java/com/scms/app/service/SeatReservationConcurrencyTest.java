@@ -0,0 +1,79 @@
+package com.scms.app.service;
+
+import com.scms.app.model.Program;
+import com.scms.app.model.ProgramStatus;
+import com.scms.app.model.User;
+import com.scms.app.repository.ProgramApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 신청 시 정원 초과(오버부킹)가 발생하지 않는지 검증
+ */
+class SeatReservationConcurrencyTest extends IntegrationTestSupport {
+
+    private static final int MAX_PARTICIPANTS = 50;
+    private static final int APPLICANTS = 300;
+
+    @Autowired
+    private ProgramApplicationService applicationService;
+
+    @Autowired
+    private ProgramApplicationRepository applicationRepository;
+
+    @Test
+    void concurrentAppliesNeverExceedMaxParticipants() throws Exception {
+        Program program = createOpenProgram("동시성 테스트 프로그램", MAX_PARTICIPANTS);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            users.add(student().build());
+        }
+        users = userRepository.saveAll(users);
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (User user : users) {
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                try {
+                    applicationService.applyProgram(user.getUserId(), program.getProgramId());
+                    accepted.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Program reloaded = programRepository.findById(program.getProgramId()).orElseThrow();
+        int persistedApplications = applicationRepository.findByProgramId(program.getProgramId()).size();
+
+        assertThat(accepted.get()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(rejected.get()).isEqualTo(APPLICANTS - MAX_PARTICIPANTS);
+        assertThat(reloaded.getCurrentParticipants()).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(persistedApplications).isEqualTo(MAX_PARTICIPANTS);
+        assertThat(reloaded.getStatus()).isEqualTo(ProgramStatus.FULL);
+    }
+}
@@ -0,0 +1,85 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.UserImportJob;
+import com.scms.app.dto.UserImportResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사용자 일괄 등록 작업의 비동기 실행과 결과 저장(user_import_jobs) 검증
+ */
+class UserImportJobServiceTest extends IntegrationTestSupport {
+
+    private static final int USER_ID = 900_101;
+
+    @Autowired
+    private UserImportJobService userImportJobService;
+
+    @Test
+    void importRunsInBackgroundAndStoresResultWithRowErrors() throws Exception {
+        int studentNum = nextStudentNum();
+        String content = String.join("\n",
+                "학번,이름,이메일,생년월일",
+                studentNum + ",가나다,job" + studentNum + "@scms.test,2003-01-01",
+                "abc,라마바,job-invalid@scms.test,2003-01-01");
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv",
+                content.getBytes(StandardCharsets.UTF_8));
+
+        UserImportJob submitted = userImportJobService.submit(USER_ID, file, "UTF-8");
+        assertThat(submitted.getStatus()).isEqualTo(UserImportJob.Status.QUEUED);
+
+        UserImportJob job = awaitFinished(submitted.getJobId());
+
+        assertThat(job.getStatus()).isEqualTo(UserImportJob.Status.COMPLETED);
+        UserImportResult result = job.getResult();
+        assertThat(result.getTotalRows()).isEqualTo(2);
+        assertThat(result.getCreatedCount()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getRowNumber()).isEqualTo(3);
+            assertThat(error.getMessage()).contains("학번");
+        });
+        assertThatThrownBy(() -> userImportJobService.getJob(job.getJobId(), USER_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void fileProblemsFailTheJob() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv",
+                "학번,이름\n1,가".getBytes(StandardCharsets.UTF_8));
+
+        UserImportJob job = awaitFinished(userImportJobService.submit(USER_ID, file, "UTF-8").getJobId());
+
+        assertThat(job.getStatus()).isEqualTo(UserImportJob.Status.FAILED);
+        assertThat(job.getMessage()).contains("필수 열이 없습니다");
+        assertThat(job.getResult()).isNull();
+    }
+
+    @Test
+    void unsupportedFileIsRejectedBeforeQueueing() {
+        MockMultipartFile file = new MockMultipartFile("file", "users.txt", "text/plain", new byte[0]);
+
+        assertThatThrownBy(() -> userImportJobService.submit(USER_ID, file, "UTF-8"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> userImportJobService.submit(USER_ID,
+                new MockMultipartFile("file", "users.csv", "text/csv", new byte[0]), "NO-SUCH-CHARSET"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private UserImportJob awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 20_000;
+        while (true) {
+            UserImportJob job = userImportJobService.getJob(jobId, USER_ID);
+            if (job.getStatus() == UserImportJob.Status.COMPLETED || job.getStatus() == UserImportJob.Status.FAILED
+                    || System.currentTimeMillis() > deadline) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.UserImportResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 사용자 일괄 등록 CSV 파싱, 헤더 매핑, 생년월일 형식, 청크 저장 실패 시 행별 재저장 검증
+ * - 청크 크기를 2로 줄여 여러 청크로 나뉘도록 함
+ */
+@SpringBootTest(properties = "scms.user-import.chunk-size=2")
+class UserImportServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @SpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Path> files = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void mapsKoreanAndEnglishHeadersInAnyOrder() throws IOException {
+        int first = nextStudentNum();
+        int second = nextStudentNum();
+        Path csv = csv("\uFEFFEmail,이름,STUDENT_NUM,birthDate,학과,Role",
+                "imp" + first + "@scms.test,가나다," + first + ",2003-01-01,컴퓨터공학과,counselor",
+                "imp" + second + "@scms.test,라마바," + second + ",2004-02-03,,");
+
+        UserImportResult result = userImportService.importUsers(csv, "users.csv", "UTF-8");
+
+        assertThat(result.getCreatedCount()).isEqualTo(2);
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(userRepository.findByStudentNumAndNotDeleted(first)).hasValueSatisfying(user -> {
+            assertThat(user.getName()).isEqualTo("가나다");
+            assertThat(user.getDepartment()).isEqualTo("컴퓨터공학과");
+            assertThat(user.getRole().name()).isEqualTo("COUNSELOR");
+        });
+        assertThat(userRepository.findByStudentNumAndNotDeleted(second))
+                .hasValueSatisfying(user -> assertThat(user.getRole().name()).isEqualTo("STUDENT"));
+    }
+
+    @Test
+    void rejectsFileWithoutRequiredColumns() throws IOException {
+        Path csv = csv("학번,이름", nextStudentNum() + ",가나다");
+
+        assertThatThrownBy(() -> userImportService.importUsers(csv, "users.csv", "UTF-8"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("birthDate")
+                .hasMessageContaining("email");
+    }
+
+    @Test
+    void acceptsSupportedBirthDateFormatsAndReportsOthers() throws IOException {
+        int iso = nextStudentNum();
+        int dotted = nextStudentNum();
+        int slashed = nextStudentNum();
+        int compact = nextStudentNum();
+        int invalid = nextStudentNum();
+        Path csv = csv("학번,이름,이메일,생년월일",
+                iso + ",가,imp" + iso + "@scms.test,2003-01-02",
+                dotted + ",나,imp" + dotted + "@scms.test,2003.01.02",
+                slashed + ",다,imp" + slashed + "@scms.test,2003/01/02",
+                compact + ",라,imp" + compact + "@scms.test,20030102",
+                invalid + ",마,imp" + invalid + "@scms.test,03-01-02");
+
+        UserImportResult result = userImportService.importUsers(csv, "users.csv", "UTF-8");
+
+        assertThat(result.getTotalRows()).isEqualTo(5);
+        assertThat(result.getCreatedCount()).isEqualTo(4);
+        for (int studentNum : List.of(iso, dotted, slashed, compact)) {
+            assertThat(userRepository.findByStudentNumAndNotDeleted(studentNum))
+                    .hasValueSatisfying(user -> assertThat(user.getBirthDate()).isEqualTo(LocalDate.of(2003, 1, 2)));
+        }
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getRowNumber()).isEqualTo(6);
+            assertThat(error.getStudentNum()).isEqualTo(String.valueOf(invalid));
+            assertThat(error.getMessage()).contains("생년월일");
+        });
+    }
+
+    @Test
+    void failedChunkIsRetriedRowByRowAndOnlyConflictingRowFails() throws IOException {
+        int first = nextStudentNum();
+        int second = nextStudentNum();
+        int third = nextStudentNum();
+        Path csv = csv("학번,이름,이메일,생년월일",
+                first + ",가,imp" + first + "@scms.test,2003-01-01",
+                second + ",나,imp" + second + "@scms.test,2003-01-01",
+                third + ",다,imp" + third + "@scms.test,2003-01-01");
+        // 중복 확인 이후 다른 요청이 첫 행과 같은 학번을 먼저 등록해 첫 청크(2행)의 배치 INSERT가 실패
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        doAnswer(invocation -> {
+            requiresNew.executeWithoutResult(status -> userRepository.save(student().studentNum(first).build()));
+            throw new DataIntegrityViolationException("duplicate");
+        }).doCallRealMethod().when(jdbcTemplate).batchUpdate(startsWith("INSERT INTO users"), anyList());
+
+        UserImportResult result = userImportService.importUsers(csv, "users.csv", "UTF-8");
+
+        assertThat(result.getCreatedCount()).isEqualTo(2);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getRowNumber()).isEqualTo(2);
+            assertThat(error.getMessage()).contains("이미 등록된");
+        });
+        assertThat(userRepository.findByStudentNumAndNotDeleted(first))
+                .hasValueSatisfying(user -> assertThat(user.getEmail()).isNotEqualTo("imp" + first + "@scms.test"));
+        assertThat(userRepository.findByStudentNumAndNotDeleted(second)).isPresent();
+        assertThat(userRepository.findByStudentNumAndNotDeleted(third)).isPresent();
+    }
+
+    private Path csv(String... lines) throws IOException {
+        Path file = Files.createTempFile("user-import-test-", ".csv");
+        files.add(file);
+        Files.writeString(file, String.join("\n", lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
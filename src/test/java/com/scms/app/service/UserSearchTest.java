@@ -0,0 +1,96 @@
+package com.scms.app.service;
+
+import com.scms.app.dto.UserSearchFilter;
+import com.scms.app.dto.UserSummaryResponse;
+import com.scms.app.model.User;
+import com.scms.app.model.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사용자 목록 검색 SQL의 조건, 정렬, 페이지 검증
+ * - 테스트마다 고유한 학과를 사용하므로 다른 테스트의 사용자와 섞이지 않음
+ */
+class UserSearchTest extends IntegrationTestSupport {
+
+    @Autowired
+    private UserService userService;
+
+    private String department;
+
+    @BeforeEach
+    void setUp() {
+        department = "검색학과" + nextStudentNum();
+    }
+
+    @Test
+    void filtersByDepartmentRoleAndNamePrefixInStudentNumOrder() {
+        User earlier = createUser("김철수", UserRole.STUDENT, false);
+        User later = createUser("김영희", UserRole.STUDENT, false);
+        createUser("박민수", UserRole.STUDENT, false);
+        createUser("김상담", UserRole.COUNSELOR, false);
+        User deleted = createUser("김삭제", UserRole.STUDENT, false);
+        deleted.setDeletedAt(LocalDateTime.now());
+        userRepository.save(deleted);
+
+        Page<UserSummaryResponse> result = userService.searchUsers(filter()
+                .role(UserRole.STUDENT)
+                .namePrefix("김")
+                .build(), 0, 20, null);
+
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(UserSummaryResponse::getStudentNum)
+                .containsExactly(earlier.getStudentNum(), later.getStudentNum());
+        assertThat(result.getContent().get(0).getRole()).isEqualTo(UserRole.STUDENT);
+    }
+
+    @Test
+    void pagesWithRequestedSortAndCountsAcrossPages() {
+        createUser("다", UserRole.STUDENT, true);
+        createUser("가", UserRole.STUDENT, true);
+        createUser("나", UserRole.STUDENT, false);
+
+        Page<UserSummaryResponse> page = userService.searchUsers(filter().build(), 0, 2, "name,desc");
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(UserSummaryResponse::getName).containsExactly("다", "나");
+        assertThat(userService.searchUsers(filter().locked(true).build(), 0, 20, null).getTotalElements())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void likeWildcardsInNamePrefixAreLiteral() {
+        createUser("홍%길동", UserRole.STUDENT, false);
+        createUser("홍길동", UserRole.STUDENT, false);
+
+        assertThat(userService.searchUsers(filter().namePrefix("홍%").build(), 0, 20, null).getContent())
+                .extracting(UserSummaryResponse::getName)
+                .containsExactly("홍%길동");
+    }
+
+    @Test
+    void rejectsUnknownSortProperty() {
+        assertThatThrownBy(() -> userService.searchUsers(filter().build(), 0, 20, "password"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private UserSearchFilter.UserSearchFilterBuilder filter() {
+        return UserSearchFilter.builder().department(department);
+    }
+
+    private User createUser(String name, UserRole role, boolean locked) {
+        return userRepository.save(student()
+                .name(name)
+                .department(department)
+                .role(role)
+                .locked(locked)
+                .build());
+    }
+}
@@ -0,0 +1,50 @@
+package com.scms.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CSV 필드 이스케이프, 수식 무력화, 한 줄 분리 검증
+ */
+class CsvUtilsTest {
+
+    @Test
+    void quotesFieldsWithSeparatorsQuotesAndNewlines() {
+        assertThat(CsvUtils.escape("홍길동")).isEqualTo("홍길동");
+        assertThat(CsvUtils.escape("a,b")).isEqualTo("\"a,b\"");
+        assertThat(CsvUtils.escape("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(CsvUtils.escape("line1\nline2")).isEqualTo("\"line1\nline2\"");
+        assertThat(CsvUtils.escape(null)).isEmpty();
+    }
+
+    @Test
+    void prefixesValuesThatSpreadsheetsTreatAsFormulas() {
+        assertThat(CsvUtils.neutralizeFormula("=HYPERLINK(\"http://x\")")).isEqualTo("'=HYPERLINK(\"http://x\")");
+        assertThat(CsvUtils.neutralizeFormula("+1")).isEqualTo("'+1");
+        assertThat(CsvUtils.neutralizeFormula("-2+3")).isEqualTo("'-2+3");
+        assertThat(CsvUtils.neutralizeFormula("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(CsvUtils.neutralizeFormula("010-1234-5678")).isEqualTo("010-1234-5678");
+        assertThat(CsvUtils.neutralizeFormula("")).isEmpty();
+        assertThat(CsvUtils.neutralizeFormula(null)).isNull();
+    }
+
+    @Test
+    void parsesQuotedFields() {
+        assertThat(CsvUtils.parseLine("a,b,,c")).containsExactly("a", "b", "", "c");
+        assertThat(CsvUtils.parseLine("\"홍, 길동\",\"say \"\"hi\"\"\",")).containsExactly("홍, 길동", "say \"hi\"", "");
+        assertThat(CsvUtils.parseLine("")).containsExactly("");
+    }
+
+    @Test
+    void writesCrlfTerminatedLine() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        CsvUtils.writeLine(writer, new String[]{"1", null, "a,b"});
+
+        assertThat(writer.toString()).isEqualTo("1,,\"a,b\"\r\n");
+    }
+}